@@ -0,0 +1,44 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * ベンチマークを実行します
+ * <pre>
+ *  スループットに加えて、GCプロファイラで1操作当たりの割り当て量を報告します。
+ *  引数はJMHのコマンドラインオプションとしてそのまま解釈されます。
+ * </pre>
+ * @author Kazzz.
+ *
+ */
+public class BenchmarkMain {
+    private BenchmarkMain() {}
+
+    /**
+     * エントリポイント
+     * @param args JMHのコマンドラインオプションをセット
+     * @throws Exception 実行に失敗した場合
+     */
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+            .parent(new CommandLineOptions(args))
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,195 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.benchmark;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.kazzz.util.HolidayCalendar;
+import org.kazzz.view.calendar.DateInfo;
+import org.kazzz.view.calendar.DateInfoPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * DateInfoと、マンスリー表示のマトリクス生成のベンチマーク
+ * @author Kazzz.
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DateInfoBenchmark {
+    private final DateInfo[][] matrix = new DateInfo[6][7];
+    private final Calendar calendar = Calendar.getInstance();
+    private final DateInfoPool pool = new DateInfoPool(
+            HolidayCalendar.getDefault(), DateInfoPool.DEFAULT_MAX_YEARS);
+    private DateInfo dateInfo;
+    private int month;
+    private int day;
+
+    /**
+     * 測定対象を準備します
+     */
+    @Setup
+    public void setUp() {
+        this.dateInfo = new DateInfo(2012, 5, 3);
+        this.dateInfo.setHour(10);
+        this.dateInfo.setMinute(30);
+    }
+
+    @Benchmark
+    public DateInfo newDateInfo() {
+        //1年の日を巡回する
+        int d = this.day + 1;
+        if ( d > 28 ) {
+            d = 1;
+            this.month = this.month == 11 ? 0 : this.month + 1;
+        }
+        this.day = d;
+        return new DateInfo(2012, this.month + 1, d);
+    }
+
+    /**
+     * DateInfoの生成と休日の判定 (祭日等の判定は最初の参照時に行う)
+     * @return boolean 休日の場合trueが戻ります
+     */
+    @Benchmark
+    public boolean newDateInfoIsHoliday() {
+        int d = this.day + 1;
+        if ( d > 28 ) {
+            d = 1;
+            this.month = this.month == 11 ? 0 : this.month + 1;
+        }
+        this.day = d;
+        return new DateInfo(2012, this.month + 1, d).isHoliday();
+    }
+
+    /**
+     * Dateの取得 (日時を変更していないので保持したミリ秒からDateを生成する)
+     * @return Date 日付が戻ります
+     */
+    @Benchmark
+    public Date createDate() {
+        return this.dateInfo.createDate();
+    }
+
+    /**
+     * 分の変更とDateの生成 (編集画面で日時を変更する度に取得する場合)
+     * @return Date 日付が戻ります
+     */
+    @Benchmark
+    public Date setMinuteCreateDate() {
+        this.dateInfo.setMinute(this.dateInfo.getMinute() == 30 ? 31 : 30);
+        return this.dateInfo.createDate();
+    }
+
+    @Benchmark
+    public String getYMD() {
+        return this.dateInfo.getYMD();
+    }
+
+    @Benchmark
+    public String getYMDHM() {
+        return this.dateInfo.getYMDHM();
+    }
+
+    /**
+     * 1か月分のマトリクス生成 (日毎にDateInfoで休日を判定する場合)
+     * <pre>
+     *  MonthlyCalendarView.calcCalendarMatrixはDateInfoPoolを使用します。
+     *  (pooledMonthMatrixと比較してください)
+     * </pre>
+     * @return DateInfo[][] マトリクスが戻ります
+     */
+    @Benchmark
+    public DateInfo[][] monthMatrix() {
+        this.month = this.month == 11 ? 0 : this.month + 1;
+        this.calendar.clear();
+        this.calendar.set(2012, this.month, 1);
+
+        for ( int row = 0; row < 6; row++ ) {
+            for ( int col = 0; col < 7; col++ ) {
+                this.matrix[row][col] = null;
+            }
+        }
+        this.calendar.set(Calendar.DATE, 1);
+        int startDay = this.calendar.get(Calendar.DAY_OF_WEEK);
+        this.calendar.add(Calendar.MONTH, 1);
+        this.calendar.add(Calendar.DATE, -1);
+        int lastDate = this.calendar.get(Calendar.DATE);
+
+        int row = 0;
+        int column = startDay - 1;
+        for ( int date = 1; date <= lastDate; date++ ) {
+            this.matrix[row][column] = new DateInfo(
+                    this.calendar.get(Calendar.YEAR)
+                    , this.calendar.get(Calendar.MONTH) + 1
+                    , date);
+            if ( column == 6 ) {
+                row++;
+                column = 0;
+            } else {
+                column++;
+            }
+        }
+        return this.matrix;
+    }
+
+    /**
+     * 1か月分のマトリクス生成 (DateInfoPoolを使用する場合)
+     * <pre>
+     *  MonthlyCalendarView.calcCalendarMatrixと同じ方法です。
+     *  2012年の12か月を巡回するので、2巡目以降は全てプールにある状態を測定します。
+     * </pre>
+     * @return DateInfo[][] マトリクスが戻ります
+     */
+    @Benchmark
+    public DateInfo[][] pooledMonthMatrix() {
+        this.month = this.month == 11 ? 0 : this.month + 1;
+        this.calendar.clear();
+        this.calendar.set(2012, this.month, 1);
+
+        for ( int row = 0; row < 6; row++ ) {
+            for ( int col = 0; col < 7; col++ ) {
+                this.matrix[row][col] = null;
+            }
+        }
+        int startDay = this.calendar.get(Calendar.DAY_OF_WEEK);
+        int lastDate = this.calendar.getActualMaximum(Calendar.DATE);
+
+        int row = 0;
+        int column = startDay - 1;
+        for ( int date = 1; date <= lastDate; date++ ) {
+            this.matrix[row][column] = this.pool.get(2012, this.month + 1, date);
+            if ( column == 6 ) {
+                row++;
+                column = 0;
+            } else {
+                column++;
+            }
+        }
+        return this.matrix;
+    }
+}
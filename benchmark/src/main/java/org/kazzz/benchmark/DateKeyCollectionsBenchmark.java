@@ -0,0 +1,138 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.benchmark;
+
+import java.util.HashMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import org.kazzz.util.DateKey;
+import org.kazzz.util.DateUtil;
+import org.kazzz.util.IntHashMap;
+import org.kazzz.util.SortedIntSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 日付キー(DateKey)のコレクションのベンチマーク
+ * <pre>
+ *  10年分の日付キーの内、1/3の日にイベントがある索引を作り、
+ *  全日を順に参照します。ボクシングするHashMap/TreeSetと比較します。
+ *  build系は1操作で索引を作り直し、lookup系は1操作で1日を参照します。
+ * </pre>
+ * @author Kazzz.
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DateKeyCollectionsBenchmark {
+    private static final int DAYS = 10 * 365;
+
+    private int[] keys = new int[DAYS];
+    private IntHashMap<String> intMap = new IntHashMap<String>();
+    private HashMap<Integer, String> boxedMap = new HashMap<Integer, String>();
+    private SortedIntSet intSet = new SortedIntSet();
+    private TreeSet<Integer> boxedSet = new TreeSet<Integer>();
+    private int index;
+
+    /**
+     * 索引を準備します
+     */
+    @Setup
+    public void setUp() {
+        int first = DateUtil.toEpochDay(2020, 1, 1);
+        for ( int i = 0; i < DAYS; i++ ) {
+            this.keys[i] = DateKey.fromEpochDay(first + i);
+        }
+        this.intMap = this.buildIntMap();
+        this.boxedMap = this.buildBoxedMap();
+        this.intSet = this.buildIntSet();
+        this.boxedSet = this.buildBoxedSet();
+    }
+    /**
+     * 次の日付の添字を取得します
+     * @return int 添字が戻ります
+     */
+    private int next() {
+        int i = this.index;
+        this.index = i + 1 == DAYS ? 0 : i + 1;
+        return i;
+    }
+
+    @Benchmark
+    public IntHashMap<String> buildIntMap() {
+        IntHashMap<String> map = new IntHashMap<String>();
+        for ( int i = 0; i < DAYS; i += 3 ) {
+            map.put(this.keys[i], "event");
+        }
+        return map;
+    }
+
+    @Benchmark
+    public HashMap<Integer, String> buildBoxedMap() {
+        HashMap<Integer, String> map = new HashMap<Integer, String>();
+        for ( int i = 0; i < DAYS; i += 3 ) {
+            map.put(this.keys[i], "event");
+        }
+        return map;
+    }
+
+    @Benchmark
+    public SortedIntSet buildIntSet() {
+        SortedIntSet set = new SortedIntSet();
+        for ( int i = 0; i < DAYS; i += 3 ) {
+            set.add(this.keys[i]);
+        }
+        return set;
+    }
+
+    @Benchmark
+    public TreeSet<Integer> buildBoxedSet() {
+        TreeSet<Integer> set = new TreeSet<Integer>();
+        for ( int i = 0; i < DAYS; i += 3 ) {
+            set.add(this.keys[i]);
+        }
+        return set;
+    }
+
+    @Benchmark
+    public String lookupIntMap() {
+        return this.intMap.get(this.keys[this.next()]);
+    }
+
+    @Benchmark
+    public String lookupBoxedMap() {
+        return this.boxedMap.get(this.keys[this.next()]);
+    }
+
+    @Benchmark
+    public boolean lookupIntSet() {
+        return this.intSet.contains(this.keys[this.next()]);
+    }
+
+    @Benchmark
+    public boolean lookupBoxedSet() {
+        return this.boxedSet.contains(this.keys[this.next()]);
+    }
+}
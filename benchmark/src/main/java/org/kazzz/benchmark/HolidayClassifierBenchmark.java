@@ -0,0 +1,109 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.kazzz.util.DateUtil;
+import org.kazzz.util.HolidayClassifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * HolidayClassifierの一括判定のベンチマーク
+ * <pre>
+ *  1操作で4M件(1970～2069年のランダムな日付)を判定します。
+ *  threadsを変えて、コア数に対するスケーリングを確認します。(0は呼び出しスレッドのみ)
+ * </pre>
+ * @author Kazzz.
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HolidayClassifierBenchmark {
+    private static final int SIZE = 1 << 22;
+
+    @Param({"0", "1", "2", "4", "8"})
+    private int threads;
+
+    private final HolidayClassifier classifier = new HolidayClassifier();
+    private int[] epochDays;
+    private int[] ymds;
+    private byte[] ids;
+    private ExecutorService executor;
+
+    /**
+     * 判定する日付を準備します
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(1);
+        int first = DateUtil.toEpochDay(1970, 1, 1);
+        int span = DateUtil.toEpochDay(2069, 12, 31) - first + 1;
+        this.epochDays = new int[SIZE];
+        this.ymds = new int[SIZE];
+        this.ids = new byte[SIZE];
+        for ( int i = 0; i < SIZE; i++ ) {
+            this.epochDays[i] = first + random.nextInt(span);
+            this.ymds[i] = DateUtil.toYmd(this.epochDays[i]);
+        }
+        if ( this.threads > 0 ) {
+            this.executor = Executors.newFixedThreadPool(this.threads);
+        }
+    }
+    /**
+     * スレッドプールを終了します
+     */
+    @TearDown
+    public void tearDown() {
+        if ( this.executor != null ) {
+            this.executor.shutdown();
+        }
+    }
+
+    @Benchmark
+    public byte[] classifyEpochDays() throws InterruptedException {
+        if ( this.executor == null ) {
+            this.classifier.classifyEpochDays(this.epochDays, 0, SIZE, this.ids, 0);
+        } else {
+            this.classifier.classifyEpochDays(this.epochDays, this.ids, this.executor);
+        }
+        return this.ids;
+    }
+
+    @Benchmark
+    public byte[] classifyYmd() throws InterruptedException {
+        if ( this.executor == null ) {
+            this.classifier.classifyYmd(this.ymds, 0, SIZE, this.ids, 0);
+        } else {
+            this.classifier.classifyYmd(this.ymds, this.ids, this.executor);
+        }
+        return this.ids;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+import org.kazzz.util.HolidayICalendarWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * HolidayICalendarWriterのベンチマーク
+ * <pre>
+ *  1操作で200年分(1950～2149年)の祝日をUTF-8のバイト列に書き出します。
+ * </pre>
+ * @author Kazzz.
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HolidayICalendarWriterBenchmark {
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(1 << 20);
+    private HolidayICalendarWriter icsWriter;
+
+    /**
+     * 書き出し先を準備します
+     * @throws IOException 発生しません
+     */
+    @Setup
+    public void setUp() throws IOException {
+        Writer writer = new OutputStreamWriter(this.bytes, "UTF-8");
+        this.icsWriter = new HolidayICalendarWriter(writer);
+        this.icsWriter.setTimestamp(0L);
+    }
+
+    @Benchmark
+    public int writeTwoHundredYears() throws IOException {
+        this.bytes.reset();
+        this.icsWriter.writeYears(1950, 2149);
+        return this.bytes.size();
+    }
+}
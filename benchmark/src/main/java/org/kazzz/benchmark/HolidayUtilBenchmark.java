@@ -0,0 +1,144 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.benchmark;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.concurrent.TimeUnit;
+
+import org.kazzz.util.DateUtil;
+import org.kazzz.util.HolidayUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * HolidayUtilのベンチマーク
+ * <pre>
+ *  1操作で1日を判定します。日付は2000～2029年の日を順に巡回するので、
+ *  祝日テーブルは全てキャッシュ済みの状態を測定します。
+ * </pre>
+ * @author Kazzz.
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HolidayUtilBenchmark {
+    private static final int DAYS = 30 * 365;
+
+    private int[] years = new int[DAYS];
+    private int[] months = new int[DAYS];
+    private int[] days = new int[DAYS];
+    private int[] epochDays = new int[DAYS];
+    private Calendar[] calendars = new Calendar[DAYS];
+    private Date[] dates = new Date[DAYS];
+    private int index;
+
+    /**
+     * 判定する日付を準備します
+     */
+    @Setup
+    public void setUp() {
+        int first = DateUtil.toEpochDay(2000, 1, 1);
+        for ( int i = 0; i < DAYS; i++ ) {
+            int ymd = DateUtil.toYmd(first + i);
+            this.years[i] = ymd / 10000;
+            this.months[i] = ( ymd / 100 ) % 100;
+            this.days[i] = ymd % 100;
+            this.epochDays[i] = first + i;
+            this.calendars[i] = new GregorianCalendar(
+                    this.years[i], this.months[i] - 1, this.days[i]);
+            this.dates[i] = this.calendars[i].getTime();
+        }
+    }
+    /**
+     * 次の日付の添字を取得します
+     * @return int 添字が戻ります
+     */
+    private int next() {
+        int i = this.index;
+        this.index = i + 1 == DAYS ? 0 : i + 1;
+        return i;
+    }
+
+    @Benchmark
+    public String getHolidayNameYmd() {
+        int i = this.next();
+        return HolidayUtil.getHolidayName(this.years[i], this.months[i], this.days[i]);
+    }
+
+    @Benchmark
+    public String getHolidayNameCalendar() {
+        return HolidayUtil.getHolidayName(this.calendars[this.next()]);
+    }
+
+    @Benchmark
+    public String getHolidayNameDate() {
+        return HolidayUtil.getHolidayName(this.dates[this.next()]);
+    }
+
+    @Benchmark
+    public int getHolidayIdYmd() {
+        int i = this.next();
+        return HolidayUtil.getHolidayId(this.years[i], this.months[i], this.days[i]);
+    }
+
+    @Benchmark
+    public int getHolidayIdEpochDay() {
+        return HolidayUtil.getHolidayId(this.epochDays[this.next()]);
+    }
+
+    @Benchmark
+    public boolean isSundayYmd() {
+        int i = this.next();
+        return HolidayUtil.isSunday(this.years[i], this.months[i], this.days[i]);
+    }
+
+    @Benchmark
+    public boolean isSundayCalendar() {
+        return HolidayUtil.isSunday(this.calendars[this.next()]);
+    }
+
+    /**
+     * 1か月分の休日、祭日のビットを取得 (1操作で1か月)
+     * @return int 休日と祭日のビットを合わせた値が戻ります
+     */
+    @Benchmark
+    public int monthHolidayMask() {
+        int i = this.next();
+        return HolidayUtil.monthHolidayMask(this.years[i], this.months[i])
+            ^ HolidayUtil.monthNamedHolidayMask(this.years[i], this.months[i]);
+    }
+
+    /**
+     * 複数のスレッドから同時に判定した場合のスループット(キャッシュの競合の確認用)
+     * @return int 祝日IDが戻ります
+     */
+    @Benchmark
+    @Threads(Threads.MAX)
+    public int getHolidayIdConcurrent() {
+        return HolidayUtil.getHolidayId(this.epochDays[this.next()]);
+    }
+}
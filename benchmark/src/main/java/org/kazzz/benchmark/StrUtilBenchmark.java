@@ -0,0 +1,71 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.kazzz.util.StrUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * StrUtilのベンチマーク
+ * @author Kazzz.
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StrUtilBenchmark {
+    private String halfKana = "ｶﾀｶﾅﾊﾝｶｸﾓｼﾞﾚﾂﾉﾍﾝｶﾝﾃｽﾄﾃﾞｽ";
+    private String fullKana = "カタカナノモジレツヲヒラガナニヘンカンスルテスト";
+    private String html = "<a href=\"index.html?a=1&b=2\">'Tom' & \"Jerry\"</a>";
+    private String[] words = { "2012", "05", "03", "憲法記念日", "祝日", "", "休業", "本社", "支社", "営業所" };
+    private String escaped = "祝日判定のための機能を提供します。\n祝日テーブルは\t祝日の規則から生成します。";
+
+    @Benchmark
+    public String toKanaFull() {
+        return StrUtil.toKanaFull(this.halfKana);
+    }
+
+    @Benchmark
+    public String toHirakana() {
+        return StrUtil.toHirakana(this.fullKana);
+    }
+
+    @Benchmark
+    public String untaintHTMLEntity() {
+        return StrUtil.untaintHTMLEntity(this.html);
+    }
+
+    // split/replaceはStrUtil内でコメントアウトされているため、
+    // 同じ文字列処理の系統のbindWordwithDelim/translateEscapeを測定する
+    @Benchmark
+    public String bindWordwithDelim() {
+        return StrUtil.bindWordwithDelim(this.words, ',');
+    }
+
+    @Benchmark
+    public String translateEscape() {
+        return StrUtil.translateEscape(this.escaped);
+    }
+}
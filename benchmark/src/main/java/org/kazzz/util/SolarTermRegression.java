@@ -0,0 +1,89 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.util;
+
+/**
+ * 節気の日(SolarTermUtil)を国立天文台の暦要項の日付と照合します
+ * <pre>
+ *  日付の変わり目に近い節気(2021年の立春 2/3 23:59等)を含めて、
+ *  計算した日が暦要項の日と一致することを確認します。
+ *  また、キャッシュする全ての年で節気の日が月内に収まり、順に並ぶことを確認します。
+ *  食い違いを検出した場合はIllegalStateExceptionで終了します。
+ *  実行: java -cp target/benchmarks.jar org.kazzz.util.SolarTermRegression
+ * </pre>
+ * @author Kazzz.
+ *
+ */
+public final class SolarTermRegression {
+    // 暦要項の節気の日 (年, 節気の番号, 月, 日)
+    private static final int[][] EXPECTED = {
+        { 2020, SolarTermUtil.RISSHUN, 2, 4 },
+        { 2021, SolarTermUtil.RISSHUN, 2, 3 },
+        { 2022, SolarTermUtil.RISSHUN, 2, 4 },
+        { 2023, SolarTermUtil.RISSHUN, 2, 4 },
+        { 2024, SolarTermUtil.RISSHUN, 2, 4 },
+        { 2025, SolarTermUtil.RISSHUN, 2, 3 },
+        { 2020, SolarTermUtil.SHUNBUN, 3, 20 },
+        { 2021, SolarTermUtil.SHUNBUN, 3, 20 },
+        { 2022, SolarTermUtil.SHUNBUN, 3, 21 },
+        { 2023, SolarTermUtil.SHUNBUN, 3, 21 },
+        { 2024, SolarTermUtil.SHUNBUN, 3, 20 },
+        { 2025, SolarTermUtil.SHUNBUN, 3, 20 },
+        { 2021, SolarTermUtil.GESHI, 6, 21 },
+        { 2021, SolarTermUtil.SHUUBUN, 9, 23 },
+        { 2020, SolarTermUtil.TOUJI, 12, 21 },
+        { 2021, SolarTermUtil.TOUJI, 12, 22 },
+    };
+
+    private SolarTermRegression() {}
+
+    /**
+     * エントリポイント
+     * @param args 使用しません
+     */
+    public static void main(String[] args) {
+        for ( int[] e : EXPECTED ) {
+            int year = e[0];
+            int term = e[1];
+            if ( term / 2 + 1 != e[2] ) {
+                throw new IllegalStateException("bad expectation: " + year + " " + term);
+            }
+            int day = SolarTermUtil.getDay(year, term);
+            if ( day != e[3] ) {
+                throw new IllegalStateException(year + " " + SolarTermUtil.getName(term)
+                        + ": expected " + e[2] + "/" + e[3] + " but was " + e[2] + "/" + day);
+            }
+            //春分、秋分以外は天文計算の日そのものなので、直接も照合する
+            int epochDay = SolarLongitude.getEpochDay(year, SolarTermUtil.getLongitude(term));
+            if ( epochDay != DateUtil.toEpochDay(year, e[2], e[3]) ) {
+                throw new IllegalStateException(year + " " + SolarTermUtil.getName(term)
+                        + ": SolarLongitude returned " + DateUtil.toYmd(epochDay));
+            }
+        }
+        for ( int year = SolarTermUtil.CACHE_FIRST_YEAR; year <= SolarTermUtil.CACHE_LAST_YEAR; year++ ) {
+            int prev = 0;
+            for ( int term = 0; term < SolarTermUtil.COUNT; term++ ) {
+                int month = term / 2 + 1;
+                int day = SolarTermUtil.getDay(year, term);
+                if ( day < 1 || day > DateUtil.lengthOfMonth(year, month)
+                        || ( term % 2 == 1 && day <= prev ) ) {
+                    throw new IllegalStateException(year + " " + SolarTermUtil.getName(term)
+                            + ": invalid day " + month + "/" + day);
+                }
+                prev = day;
+            }
+        }
+        System.out.println("solar terms: " + EXPECTED.length + " dates matched, "
+                + ( SolarTermUtil.CACHE_LAST_YEAR - SolarTermUtil.CACHE_FIRST_YEAR + 1 )
+                + " years checked");
+    }
+}
@@ -0,0 +1,208 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.util;
+
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 年毎の祝日テーブルのキャッシュ(YearTableCache)の並行性を検証します
+ * <pre>
+ *  スレッド数を1から倍々に増やし、スレッド数毎に次の2つを行います。
+ *   1. 空のキャッシュに全スレッドが同時に全年を要求し、各年の生成が
+ *      1度だけで、全スレッドが同じテーブルを受け取ったことを確認します。(ROUNDS回)
+ *   2. 空のキャッシュに全スレッドが一定時間、全年を巡回して要求し、
+ *      全体のスループット(参照/μs)を測定します。終了後に生成回数を確認します。
+ *  生成回数の違反を検出した場合はIllegalStateExceptionで終了します。
+ *  YearTableCacheはパッケージ外に公開していないので、同じパッケージに置いています。
+ *  実行: java -cp target/benchmarks.jar org.kazzz.util.YearTableCacheStress [最大スレッド数]
+ * </pre>
+ * @author Kazzz.
+ *
+ */
+public final class YearTableCacheStress {
+    private static final int FIRST_YEAR = HolidayUtil.MIN_YEAR;
+    private static final int LAST_YEAR = HolidayUtil.MAX_YEAR;
+    private static final int YEARS = LAST_YEAR - FIRST_YEAR + 1;
+    private static final int ROUNDS = 20;
+    private static final long MEASURE_MILLIS = 1000;
+
+    // 参照結果を捨てられないように書き込む先
+    static volatile int sink;
+
+    private YearTableCacheStress() {}
+
+    /**
+     * 生成回数を数えるキャッシュを提供します
+     */
+    private static final class CountingCache {
+        final AtomicIntegerArray builds = new AtomicIntegerArray(YEARS);
+        final YearTableCache cache = new YearTableCache(FIRST_YEAR, LAST_YEAR
+                , new YearTableCache.Loader() {
+                    public HolidayYear load(int year) {
+                        CountingCache.this.builds.incrementAndGet(year - FIRST_YEAR);
+                        return HolidayUtil.buildYearTable(year);
+                    }
+                });
+
+        /**
+         * 各年の生成が1度以下であることを確認します
+         * @param threads スレッド数をセット
+         * @return int 生成した年数が戻ります
+         */
+        int verify(int threads) {
+            int built = 0;
+            for ( int i = 0; i < YEARS; i++ ) {
+                int n = this.builds.get(i);
+                if ( n > 1 ) {
+                    throw new IllegalStateException("year " + ( FIRST_YEAR + i )
+                            + " built " + n + " times with " + threads + " threads");
+                }
+                built += n;
+            }
+            return built;
+        }
+    }
+
+    /**
+     * エントリポイント
+     * @param args 最大スレッド数(省略時はプロセッサ数の2倍)をセット
+     * @throws Exception 検証に失敗した場合
+     */
+    public static void main(String[] args) throws Exception {
+        int maxThreads = args.length > 0
+            ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors() * 2;
+        System.out.println("processors: " + Runtime.getRuntime().availableProcessors());
+        System.out.println("threads  lookups/us  builds");
+        for ( int threads = 1; ; threads <<= 1 ) {
+            threads = Math.min(threads, maxThreads);
+            for ( int round = 0; round < ROUNDS; round++ ) {
+                YearTableCacheStress.coldStart(threads);
+            }
+            CountingCache counting = new CountingCache();
+            double rate = YearTableCacheStress.measure(counting.cache, threads);
+            int built = counting.verify(threads);
+            System.out.println(String.format("%7d %11.1f %7d", threads, rate, built));
+            if ( threads == maxThreads ) {
+                break;
+            }
+        }
+    }
+    /**
+     * 空のキャッシュに全スレッドが同時に全年を要求します
+     * @param threads スレッド数をセット
+     * @throws Exception 検証に失敗した場合
+     */
+    private static void coldStart(final int threads) throws Exception {
+        final CountingCache counting = new CountingCache();
+        final HolidayYear[][] seen = new HolidayYear[threads][YEARS];
+        final CyclicBarrier start = new CyclicBarrier(threads);
+        Thread[] workers = new Thread[threads];
+        for ( int t = 0; t < threads; t++ ) {
+            final int index = t;
+            workers[t] = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                    } catch ( Exception e ) {
+                        throw new IllegalStateException(e);
+                    }
+                    //スレッド毎に開始位置をずらし、同じ年の生成が重なるようにする
+                    for ( int i = 0; i < YEARS; i++ ) {
+                        int y = ( i + index * 7 ) % YEARS;
+                        seen[index][y] = counting.cache.get(FIRST_YEAR + y);
+                    }
+                }
+            };
+        }
+        YearTableCacheStress.runAll(workers);
+        if ( counting.verify(threads) != YEARS ) {
+            throw new IllegalStateException("not all years were built");
+        }
+        for ( int t = 0; t < threads; t++ ) {
+            for ( int y = 0; y < YEARS; y++ ) {
+                if ( seen[t][y] != counting.cache.get(FIRST_YEAR + y) ) {
+                    throw new IllegalStateException("year " + ( FIRST_YEAR + y )
+                            + " returned different tables with " + threads + " threads");
+                }
+            }
+        }
+    }
+    /**
+     * 全スレッドが一定時間、全年を巡回して要求したスループットを測定します
+     * @param cache キャッシュをセット
+     * @param threads スレッド数をセット
+     * @return double 全スレッド合計の参照回数/μsが戻ります
+     * @throws Exception 測定に失敗した場合
+     */
+    private static double measure(final YearTableCache cache, final int threads)
+            throws Exception {
+        final long[] counts = new long[threads * 16]; // 偽共有を避けるため間隔を空ける
+        final CyclicBarrier start = new CyclicBarrier(threads + 1);
+        final AtomicBoolean stop = new AtomicBoolean();
+        Thread[] workers = new Thread[threads];
+        for ( int t = 0; t < threads; t++ ) {
+            final int index = t;
+            workers[t] = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                    } catch ( Exception e ) {
+                        throw new IllegalStateException(e);
+                    }
+                    long n = 0;
+                    int y = index * 7 % YEARS;
+                    int sum = 0;
+                    while ( !stop.get() ) {
+                        for ( int i = 0; i < 1024; i++ ) {
+                            sum += cache.get(FIRST_YEAR + y).getYear();
+                            y = y + 1 == YEARS ? 0 : y + 1;
+                        }
+                        n += 1024;
+                    }
+                    counts[index * 16] = n;
+                    sink = sum;
+                }
+            };
+            workers[t].start();
+        }
+        start.await();
+        long begin = System.nanoTime();
+        Thread.sleep(MEASURE_MILLIS);
+        stop.set(true);
+        for ( Thread worker : workers ) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+        long total = 0;
+        for ( int t = 0; t < threads; t++ ) {
+            total += counts[t * 16];
+        }
+        return total / ( elapsed / 1000.0 );
+    }
+    /**
+     * スレッドを開始して終了を待ちます
+     * @param workers スレッドをセット
+     * @throws InterruptedException 待機中に割り込まれた場合
+     */
+    private static void runAll(Thread[] workers) throws InterruptedException {
+        for ( Thread worker : workers ) {
+            worker.start();
+        }
+        for ( Thread worker : workers ) {
+            worker.join();
+        }
+    }
+}
@@ -20,8 +20,10 @@ public final class R {
         public static final int calendar_hint_2=0x7f040007;
         public static final int calendar_holiday=0x7f040009;
         public static final int calendar_light=0x7f040002;
+        public static final int calendar_rokuyo=0x7f04000c;
         public static final int calendar_saturday=0x7f04000a;
         public static final int calendar_selected=0x7f040008;
+        public static final int calendar_solarterm=0x7f04000d;
         public static final int shadowColor=0x7f04000b;
     }
     public static final class drawable {
@@ -0,0 +1,300 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.util;
+
+import java.util.Calendar;
+
+/**
+ * 営業日計算の機能を提供します
+ * <pre>
+ *  祝日テーブルの範囲(HolidayUtil.MIN_YEAR～HolidayUtil.MAX_YEAR)の全日について
+ *  営業日数の累積値を保持し、営業日の判定をO(1)、営業日数の計算をO(1)、
+ *  営業日の加減算をO(log n)で行います。
+ *  累積値のテーブルは初回使用時に生成され、祝日データベース(HolidayUtil.setDatabase)を
+ *  変更した後に使用した時点で生成し直されます。
+ *  休業日とする祝日はHolidayCalendarで指定でき、会社の休業日等を合成した
+ *  カレンダ(CompositeHolidayProvider)も使用できます。
+ *  日付は全て1970/1/1を0とした通算日(DateUtil.toEpochDay)で扱います。
+ * </pre>
+ * @author Kazzz.
+ * @since JDK1.5 Android Level 4
+ *
+ */
+public class BusinessDayCalendar {
+    /** 週末マスク: 日曜日 */
+    public static final int SUNDAY = 1 << ( Calendar.SUNDAY - 1 );
+    /** 週末マスク: 月曜日 */
+    public static final int MONDAY = 1 << ( Calendar.MONDAY - 1 );
+    /** 週末マスク: 火曜日 */
+    public static final int TUESDAY = 1 << ( Calendar.TUESDAY - 1 );
+    /** 週末マスク: 水曜日 */
+    public static final int WEDNESDAY = 1 << ( Calendar.WEDNESDAY - 1 );
+    /** 週末マスク: 木曜日 */
+    public static final int THURSDAY = 1 << ( Calendar.THURSDAY - 1 );
+    /** 週末マスク: 金曜日 */
+    public static final int FRIDAY = 1 << ( Calendar.FRIDAY - 1 );
+    /** 週末マスク: 土曜日 */
+    public static final int SATURDAY = 1 << ( Calendar.SATURDAY - 1 );
+
+    private static final int ALL_DAYS = 0x7f;
+
+    protected final HolidayCalendar holidays;
+    protected final int weekendMask;
+    protected final int firstDay; // テーブル先頭の通算日
+    protected final int lastDay;  // テーブル末尾の通算日
+    // 営業日数の累積値テーブル
+    private volatile Cumulative cumulative;
+    private final Object lock = new Object();
+
+    /**
+     * 営業日数の累積値テーブルを保持します
+     */
+    private static final class Cumulative {
+        final int databaseVersion; // 生成した時点の祝日データベースの版数
+        final int[] counts;        // counts[i] = [firstDay, firstDay + i) の営業日数
+        Cumulative(int databaseVersion, int[] counts) {
+            this.databaseVersion = databaseVersion;
+            this.counts = counts;
+        }
+    }
+
+    /**
+     * コンストラクタ (土曜日、日曜日、祭日を休業日とする)
+     */
+    public BusinessDayCalendar() {
+        this(SATURDAY | SUNDAY);
+    }
+    /**
+     * コンストラクタ
+     * @param weekendMask 休業日とする曜日のマスク(SUNDAY | SATURDAY等)をセット
+     */
+    public BusinessDayCalendar(int weekendMask) {
+        this(HolidayCalendar.getDefault(), weekendMask);
+    }
+    /**
+     * コンストラクタ (土曜日、日曜日を休業日とする)
+     * @param holidays 休業日とする祝日のカレンダをセット
+     */
+    public BusinessDayCalendar(HolidayCalendar holidays) {
+        this(holidays, SATURDAY | SUNDAY);
+    }
+    /**
+     * コンストラクタ
+     * @param holidays 休業日とする祝日のカレンダをセット
+     * @param weekendMask 休業日とする曜日のマスク(SUNDAY | SATURDAY等)をセット
+     */
+    public BusinessDayCalendar(HolidayCalendar holidays, int weekendMask) {
+        if ( holidays == null ) {
+            throw new IllegalArgumentException("holidays is null");
+        }
+        if ( ( weekendMask & ~ALL_DAYS ) != 0 || weekendMask == ALL_DAYS ) {
+            throw new IllegalArgumentException(
+                    "invalid weekend mask: " + Integer.toHexString(weekendMask));
+        }
+        this.holidays = holidays;
+        this.weekendMask = weekendMask;
+        this.firstDay = DateUtil.toEpochDay(HolidayUtil.MIN_YEAR, 1, 1);
+        this.lastDay = DateUtil.toEpochDay(HolidayUtil.MAX_YEAR, 12, 31);
+    }
+    /**
+     * holidaysを取得します
+     * @return HolidayCalendar holidaysが戻ります
+     */
+    public HolidayCalendar getHolidays() {
+        return this.holidays;
+    }
+    /**
+     * weekendMaskを取得します
+     * @return int weekendMaskが戻ります
+     */
+    public int getWeekendMask() {
+        return this.weekendMask;
+    }
+    /**
+     * 休業日とする曜日か否かを判定します
+     * @param epochDay 通算日をセット
+     * @return boolean 休業日とする曜日の場合trueが戻ります
+     */
+    public boolean isWeekend(int epochDay) {
+        return ( this.weekendMask
+                & ( 1 << ( DateUtil.dayOfWeek(epochDay) - 1 ) ) ) != 0;
+    }
+    /**
+     * 営業日か否かを判定します
+     * @param epochDay 通算日をセット
+     * @return boolean 営業日の場合trueが戻ります
+     */
+    public boolean isBusinessDay(int epochDay) {
+        if ( epochDay < this.firstDay || epochDay > this.lastDay ) {
+            // テーブル範囲外は直接判定する
+            return !this.isWeekend(epochDay)
+                && !this.holidays.isHoliday(epochDay);
+        }
+        int[] cum = this.getCumulative();
+        int i = epochDay - this.firstDay;
+        return cum[i + 1] != cum[i];
+    }
+    /**
+     * 営業日か否かを判定します
+     * @param year 年をセット
+     * @param month 月(1～12)をセット
+     * @param day 日をセット
+     * @return boolean 営業日の場合trueが戻ります
+     */
+    public boolean isBusinessDay(int year, int month, int day) {
+        return this.isBusinessDay(DateUtil.toEpochDay(year, month, day));
+    }
+    /**
+     * 2つの日付の間の営業日数を取得します
+     * <pre>
+     *  fromを含まず、toを含む範囲 (from, to] の営業日数を返します。
+     *  to &lt; fromの場合は (to, from] の営業日数を負数で返します。
+     * </pre>
+     * @param fromEpochDay 起点の通算日をセット
+     * @param toEpochDay 終点の通算日をセット
+     * @return int 営業日数が戻ります
+     */
+    public int countBusinessDays(int fromEpochDay, int toEpochDay) {
+        this.checkRange(fromEpochDay);
+        this.checkRange(toEpochDay);
+        int[] cum = this.getCumulative();
+        return cum[toEpochDay - this.firstDay + 1]
+               - cum[fromEpochDay - this.firstDay + 1];
+    }
+    /**
+     * 営業日を加減算します
+     * <pre>
+     *  days &gt; 0の場合はdays営業日後、days &lt; 0の場合は-days営業日前の日付を返します。
+     *  days == 0の場合は、起点をそのまま返します。
+     * </pre>
+     * @param epochDay 起点の通算日をセット
+     * @param days 加算する営業日数をセット
+     * @return int 計算した通算日が戻ります
+     * @throws IllegalArgumentException 結果がテーブルの範囲外になる場合
+     */
+    public int addBusinessDays(int epochDay, int days) {
+        this.checkRange(epochDay);
+        if ( days == 0 ) return epochDay;
+        int[] cum = this.getCumulative();
+        int i = epochDay - this.firstDay;
+        // 求める日が先頭から数えて何番目(1～)の営業日かを求める
+        int nth = days > 0 ? cum[i + 1] + days : cum[i] + days + 1;
+        int result = this.nthBusinessDay(cum, nth);
+        if ( result == HolidayUtil.NOT_FOUND ) {
+            throw new IllegalArgumentException(
+                    "out of range: " + epochDay + " + " + days + " business days");
+        }
+        return result;
+    }
+    /**
+     * 次の営業日を検索します
+     * @param epochDay 起点の通算日をセット(この日は含みません)
+     * @return int 次の営業日の通算日が戻ります(テーブルの範囲内に無い場合、HolidayUtil.NOT_FOUNDが戻ります)
+     */
+    public int nextBusinessDay(int epochDay) {
+        this.checkRange(epochDay);
+        int[] cum = this.getCumulative();
+        return this.nthBusinessDay(cum, cum[epochDay - this.firstDay + 1] + 1);
+    }
+    /**
+     * 前の営業日を検索します
+     * @param epochDay 起点の通算日をセット(この日は含みません)
+     * @return int 前の営業日の通算日が戻ります(テーブルの範囲内に無い場合、HolidayUtil.NOT_FOUNDが戻ります)
+     */
+    public int previousBusinessDay(int epochDay) {
+        this.checkRange(epochDay);
+        int[] cum = this.getCumulative();
+        return this.nthBusinessDay(cum, cum[epochDay - this.firstDay]);
+    }
+    /**
+     * テーブルの先頭から数えてn番目の営業日を取得します
+     * @param cum 累積値の配列をセット
+     * @param nth 番号(1～)をセット
+     * @return int 通算日が戻ります(範囲外の場合、HolidayUtil.NOT_FOUNDが戻ります)
+     */
+    private int nthBusinessDay(int[] cum, int nth) {
+        if ( nth < 1 || nth > cum[cum.length - 1] ) {
+            return HolidayUtil.NOT_FOUND;
+        }
+        return this.firstDay + this.lowerBound(cum, nth) - 1;
+    }
+    /**
+     * 累積値がn以上となる最初の添字を二分探索で取得します
+     * @param cum 累積値の配列をセット
+     * @param n 探索する値をセット
+     * @return int 添字が戻ります
+     */
+    private int lowerBound(int[] cum, int n) {
+        int low = 0;
+        int high = cum.length - 1;
+        while ( low < high ) {
+            int mid = ( low + high ) >>> 1;
+            if ( cum[mid] < n ) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+    /**
+     * 通算日がテーブルの範囲内かを検査します
+     * @param epochDay 通算日をセット
+     */
+    protected void checkRange(int epochDay) {
+        if ( epochDay < this.firstDay || epochDay > this.lastDay ) {
+            throw new IllegalArgumentException("out of range: " + epochDay);
+        }
+    }
+    /**
+     * 営業日数の累積値テーブルを取得します
+     * <pre>
+     *  参照はロックを取らず、生成は二重チェックで1度だけ行います。
+     *  祝日データベースが変更されていれば生成し直します。
+     * </pre>
+     * @return int[] 累積値テーブルが戻ります
+     */
+    private int[] getCumulative() {
+        int version = HolidayUtil.getDatabaseVersion();
+        Cumulative cum = this.cumulative;
+        if ( cum == null || cum.databaseVersion != version ) {
+            synchronized ( this.lock ) {
+                cum = this.cumulative;
+                if ( cum == null || cum.databaseVersion != version ) {
+                    cum = new Cumulative(version, this.buildCumulative());
+                    this.cumulative = cum;
+                }
+            }
+        }
+        return cum.counts;
+    }
+    /**
+     * 営業日数の累積値テーブルを生成します
+     * @return int[] 生成した累積値テーブルが戻ります
+     */
+    private int[] buildCumulative() {
+        int[] cum = new int[this.lastDay - this.firstDay + 2];
+        int i = 0;
+        int dow = DateUtil.dayOfWeek(this.firstDay) - 1;
+        for ( int year = HolidayUtil.MIN_YEAR; year <= HolidayUtil.MAX_YEAR; year++ ) {
+            HolidayYear table = this.holidays.getYearTable(year);
+            for ( int d = 0; d < table.length(); d++ ) {
+                boolean business = ( this.weekendMask & ( 1 << dow ) ) == 0
+                    && table.getId(d) == 0;
+                cum[i + 1] = cum[i] + ( business ? 1 : 0 );
+                i++;
+                dow = dow == 6 ? 0 : dow + 1;
+            }
+        }
+        return cum;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.util;
+
+import java.util.Locale;
+
+/**
+ * 複数の祝日の定義を合成した祝日の定義を提供します
+ * <pre>
+ *  いずれかの定義で祝日であれば祝日となります。同じ日が複数の定義で
+ *  祝日の場合は、先に指定した定義の祝日が優先されます。
+ *  祝日IDは定義毎に重ならないよう、先に指定した定義の祝日名の数だけずらして
+ *  割り当てます。(最初の定義の祝日IDはそのままです)
+ *  祝日名の数は祝日データベース(HolidayUtil.setDatabase)で変わることがあるので、
+ *  データベースを変更した後に参照した時点で割り当てをやり直します。
+ * </pre>
+ * @author Kazzz.
+ * @since JDK1.5 Android Level 4
+ *
+ */
+public class CompositeHolidayProvider implements HolidayProvider {
+    protected final HolidayProvider[] providers;
+    // 祝日IDの割り当て (祝日データベースを変更すると作り直す)
+    private volatile IdLayout layout;
+
+    /**
+     * 定義毎の祝日IDの割り当てを保持します
+     */
+    private static final class IdLayout {
+        final int databaseVersion; // 割り当てた時点の祝日データベースの版数
+        final int[] idOffsets;     // 定義毎の祝日IDの開始値
+        final int nameCount;
+
+        /**
+         * コンストラクタ
+         * @param providers 合成する祝日の定義をセット
+         * @param databaseVersion 祝日データベースの版数をセット
+         */
+        IdLayout(HolidayProvider[] providers, int databaseVersion) {
+            this.databaseVersion = databaseVersion;
+            this.idOffsets = new int[providers.length];
+            int offset = 0;
+            for ( int i = 0; i < providers.length; i++ ) {
+                //各定義の祝日ID 0は「祝日では無い」なので、合成後のIDには含めない
+                this.idOffsets[i] = i == 0 ? 0 : offset - 1;
+                offset = this.idOffsets[i] + providers[i].getHolidayNameCount();
+            }
+            if ( offset > 0x100 ) {
+                throw new IllegalArgumentException("too many holiday names: " + offset);
+            }
+            this.nameCount = offset;
+        }
+    }
+
+    /**
+     * コンストラクタ
+     * @param providers 合成する祝日の定義(優先する順)をセット
+     */
+    public CompositeHolidayProvider(HolidayProvider... providers) {
+        if ( providers == null || providers.length == 0 ) {
+            throw new IllegalArgumentException("providers are required");
+        }
+        this.providers = providers.clone();
+        this.layout = new IdLayout(this.providers, HolidayUtil.getDatabaseVersion());
+    }
+    /**
+     * 祝日IDの割り当てを取得します
+     * <pre>
+     *  祝日データベースが変更されていれば、割り当てをやり直します。
+     * </pre>
+     * @return IdLayout 祝日IDの割り当てが戻ります
+     */
+    private IdLayout getLayout() {
+        IdLayout current = this.layout;
+        int version = HolidayUtil.getDatabaseVersion();
+        if ( current.databaseVersion != version ) {
+            current = new IdLayout(this.providers, version);
+            this.layout = current;
+        }
+        return current;
+    }
+    /* (non-Javadoc)
+     * @see org.kazzz.util.HolidayProvider#getHolidayIds(int)
+     */
+    @Override
+    public byte[] getHolidayIds(int year) {
+        IdLayout current = this.getLayout();
+        byte[] ids = this.providers[0].getHolidayIds(year);
+        for ( int p = 1; p < this.providers.length; p++ ) {
+            byte[] other = this.providers[p].getHolidayIds(year);
+            for ( int i = 0; i < ids.length; i++ ) {
+                if ( ids[i] == 0 && other[i] != 0 ) {
+                    ids[i] = (byte)( ( other[i] & 0xff ) + current.idOffsets[p] );
+                }
+            }
+        }
+        return ids;
+    }
+    /* (non-Javadoc)
+     * @see org.kazzz.util.HolidayProvider#getHolidayNameCount()
+     */
+    @Override
+    public int getHolidayNameCount() {
+        return this.getLayout().nameCount;
+    }
+    /* (non-Javadoc)
+     * @see org.kazzz.util.HolidayProvider#getHolidayName(int)
+     */
+    @Override
+    public String getHolidayName(int holidayId) {
+        IdLayout current = this.getLayout();
+        int p = CompositeHolidayProvider.indexOf(current, holidayId);
+        return this.providers[p].getHolidayName(holidayId - current.idOffsets[p]);
+    }
+    /* (non-Javadoc)
+     * @see org.kazzz.util.HolidayProvider#getHolidayName(int, java.util.Locale)
+     */
+    @Override
+    public String getHolidayName(int holidayId, Locale locale) {
+        IdLayout current = this.getLayout();
+        int p = CompositeHolidayProvider.indexOf(current, holidayId);
+        return this.providers[p].getHolidayName(holidayId - current.idOffsets[p], locale);
+    }
+    /**
+     * 祝日IDを割り当てた定義の添字を取得します
+     * @param layout 祝日IDの割り当てをセット
+     * @param holidayId 合成後の祝日IDをセット
+     * @return int 定義の添字が戻ります
+     */
+    private static int indexOf(IdLayout layout, int holidayId) {
+        int p = layout.idOffsets.length - 1;
+        while ( p > 0 && holidayId <= layout.idOffsets[p] ) {
+            p--;
+        }
+        return p;
+    }
+}
@@ -0,0 +1,168 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.util;
+
+/**
+ * 年月日を1つのintに詰めた日付キー(yyyymmdd)を扱う機能を提供します
+ * <pre>
+ *  日付キーは year * 10000 + month * 100 + day の整数で、
+ *  DateUtil.toYmd、HolidayList.getYmdの戻り値と同じ形式です。
+ *  整数の大小が日付の前後と一致するので、そのまま比較、ソートできます。
+ *  日付の計算は通算日(DateUtil.toEpochDay)を経由して行い、
+ *  いずれのメソッドもオブジェクトを生成しません。(appendToは追加先の拡張のみ)
+ *  日付キーをキーとするコレクションにはIntHashMap、SortedIntSetを使用します。
+ * </pre>
+ * @author Kazzz.
+ * @since JDK1.5 Android Level 4
+ *
+ */
+public final class DateKey {
+    private DateKey() {}
+
+    /** 日付が無いことを示す値 */
+    public static final int NONE = 0;
+
+    /**
+     * 日付キーを取得します
+     * @param year 年(1～9999)をセット
+     * @param month 月(1～12)をセット
+     * @param day 日をセット
+     * @return int 日付キーが戻ります
+     */
+    public static int of(int year, int month, int day) {
+        if ( year < 1 || year > 9999 || !DateUtil.isValidDate(year, month, day) ) {
+            throw new IllegalArgumentException(
+                    "invalid date: " + year + "/" + month + "/" + day);
+        }
+        return year * 10000 + month * 100 + day;
+    }
+    /**
+     * 通算日から日付キーを取得します
+     * @param epochDay 1970/1/1を0とした通算日をセット
+     * @return int 日付キーが戻ります
+     */
+    public static int fromEpochDay(int epochDay) {
+        return DateUtil.toYmd(epochDay);
+    }
+    /**
+     * 日付キーから通算日を取得します
+     * @param key 日付キーをセット
+     * @return int 1970/1/1を0とした通算日が戻ります
+     */
+    public static int toEpochDay(int key) {
+        return DateUtil.fromYmd(key);
+    }
+    /**
+     * 年を取得します
+     * @param key 日付キーをセット
+     * @return int 年が戻ります
+     */
+    public static int getYear(int key) {
+        return key / 10000;
+    }
+    /**
+     * 月を取得します
+     * @param key 日付キーをセット
+     * @return int 月(1～12)が戻ります
+     */
+    public static int getMonth(int key) {
+        return ( key / 100 ) % 100;
+    }
+    /**
+     * 日を取得します
+     * @param key 日付キーをセット
+     * @return int 日が戻ります
+     */
+    public static int getDay(int key) {
+        return key % 100;
+    }
+    /**
+     * 実在する日付の日付キーか否かを判定します
+     * @param key 日付キーをセット
+     * @return boolean 実在する日付の場合trueが戻ります
+     */
+    public static boolean isValid(int key) {
+        int year = key / 10000;
+        return year >= 1 && year <= 9999
+            && DateUtil.isValidDate(year, ( key / 100 ) % 100, key % 100);
+    }
+    /**
+     * 日数を加算した日付キーを取得します
+     * @param key 日付キーをセット
+     * @param days 加算する日数(負数で減算)をセット
+     * @return int 日付キーが戻ります
+     */
+    public static int plusDays(int key, int days) {
+        return DateUtil.toYmd(DateUtil.fromYmd(key) + days);
+    }
+    /**
+     * 月数を加算した日付キーを取得します
+     * <pre>
+     *  加算後の月に日が無い場合は月末日になります。(1/31の1か月後は2/28又は2/29)
+     * </pre>
+     * @param key 日付キーをセット
+     * @param months 加算する月数(負数で減算)をセット
+     * @return int 日付キーが戻ります
+     */
+    public static int plusMonths(int key, int months) {
+        int m0 = key / 10000 * 12 + ( key / 100 ) % 100 - 1 + months;
+        int year = ( m0 >= 0 ? m0 : m0 - 11 ) / 12;
+        int month = m0 - year * 12 + 1;
+        int day = Math.min(key % 100, DateUtil.lengthOfMonth(year, month));
+        return year * 10000 + month * 100 + day;
+    }
+    /**
+     * 2つの日付キーの間の日数を取得します
+     * @param from 開始の日付キーをセット
+     * @param to 終了の日付キーをセット
+     * @return int to - fromの日数が戻ります
+     */
+    public static int daysBetween(int from, int to) {
+        return DateUtil.fromYmd(to) - DateUtil.fromYmd(from);
+    }
+    /**
+     * 曜日を取得します
+     * @param key 日付キーをセット
+     * @return int Calendar.SUNDAY(1)～Calendar.SATURDAY(7)が戻ります
+     */
+    public static int dayOfWeek(int key) {
+        return DateUtil.dayOfWeek(DateUtil.fromYmd(key));
+    }
+    /**
+     * 日付キーをyyyy/MM/dd形式で追加します
+     * @param sb 追加先をセット
+     * @param key 日付キーをセット
+     * @return StringBuilder 追加先が戻ります
+     */
+    public static StringBuilder appendTo(StringBuilder sb, int key) {
+        int year = key / 10000;
+        int month = ( key / 100 ) % 100;
+        int day = key % 100;
+        sb.append((char)( '0' + year / 1000 ))
+          .append((char)( '0' + year / 100 % 10 ))
+          .append((char)( '0' + year / 10 % 10 ))
+          .append((char)( '0' + year % 10 ))
+          .append('/')
+          .append((char)( '0' + month / 10 )).append((char)( '0' + month % 10 ))
+          .append('/')
+          .append((char)( '0' + day / 10 )).append((char)( '0' + day % 10 ));
+        return sb;
+    }
+    /**
+     * 日付キーをyyyy/MM/dd形式の文字列に変換します
+     * @param key 日付キーをセット
+     * @return String 変換した文字列が戻ります
+     */
+    public static String toString(int key) {
+        return DateKey.appendTo(new StringBuilder(10), key).toString();
+    }
+}
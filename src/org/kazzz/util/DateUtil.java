@@ -0,0 +1,204 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.util;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+
+/**
+ * 日付計算系ヘルパユーティリティクラス
+ * <pre>
+ *  java.util.Calendarを使わずに、年月日と通算日(1970/1/1 = 0とした日数)の
+ *  相互変換や曜日の計算を整数演算のみで行います。
+ *  いずれのメソッドもオブジェクトを生成しません。(先発グレゴリオ暦)
+ * </pre>
+ * @author Kazzz.
+ * @since JDK1.5 Android Level 4
+ *
+ */
+public final class DateUtil {
+    private DateUtil() {}
+
+    /** 1日のミリ秒数 */
+    public static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+
+    // 月毎の前月までの日数 (平年)
+    private static final int[] daysBeforeMonth = {
+        0, 31, 59, 90, 120, 151, 181, 212, 243, 273, 304, 334, 365
+    };
+
+    /**
+     * 閏年か否かを判定します
+     * @param year 年をセット
+     * @return boolean 閏年の場合trueが戻ります
+     */
+    public static boolean isLeapYear(int year) {
+        return ( year % 4 == 0 && year % 100 != 0 ) || year % 400 == 0;
+    }
+    /**
+     * 年の日数を取得します
+     * @param year 年をセット
+     * @return int 365又は366が戻ります
+     */
+    public static int lengthOfYear(int year) {
+        return DateUtil.isLeapYear(year) ? 366 : 365;
+    }
+    /**
+     * 月の日数を取得します
+     * @param year 年をセット
+     * @param month 月(1～12)をセット
+     * @return int 月の日数が戻ります
+     */
+    public static int lengthOfMonth(int year, int month) {
+        int length = daysBeforeMonth[month] - daysBeforeMonth[month-1];
+        return ( month == 2 && DateUtil.isLeapYear(year) ) ? length + 1 : length;
+    }
+    /**
+     * 年月日が実在する日付か否かを判定します
+     * @param year 年をセット
+     * @param month 月をセット
+     * @param day 日をセット
+     * @return boolean 実在する日付の場合trueが戻ります
+     */
+    public static boolean isValidDate(int year, int month, int day) {
+        return month >= 1 && month <= 12
+            && day >= 1 && day <= DateUtil.lengthOfMonth(year, month);
+    }
+    /**
+     * 通日を取得します
+     * @param year 年をセット
+     * @param month 月(1～12)をセット
+     * @param day 日をセット
+     * @return int 通日(1月1日 = 1)が戻ります
+     */
+    public static int dayOfYear(int year, int month, int day) {
+        int dayOfYear = daysBeforeMonth[month-1] + day;
+        return ( month > 2 && DateUtil.isLeapYear(year) ) ? dayOfYear + 1 : dayOfYear;
+    }
+    /**
+     * 年月日から通算日を取得します
+     * @param year 年をセット
+     * @param month 月(1～12)をセット
+     * @param day 日をセット
+     * @return int 1970/1/1を0とした通算日が戻ります
+     */
+    public static int toEpochDay(int year, int month, int day) {
+        // 3月始まりの年に置き換えて、400年周期で計算する
+        int y = month <= 2 ? year - 1 : year;
+        int era = ( y >= 0 ? y : y - 399 ) / 400;
+        int yoe = y - era * 400;                                     // [0, 399]
+        int doy = ( 153 * ( month > 2 ? month - 3 : month + 9 ) + 2 ) / 5 + day - 1;
+        int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;             // [0, 146096]
+        return era * 146097 + doe - 719468;
+    }
+    /**
+     * 年月日から通算日を取得します
+     * <pre>
+     *  範囲外の月日はjava.util.Calendarの寛容モードと同様に繰り上げ/繰り下げます。
+     *  (2012/13/1は2013/1/1、2012/3/0は2012/2/29)
+     * </pre>
+     * @param year 年をセット
+     * @param month 月をセット
+     * @param day 日をセット
+     * @return int 1970/1/1を0とした通算日が戻ります
+     */
+    public static int toEpochDayLenient(int year, int month, int day) {
+        int m0 = month - 1;
+        int years = ( m0 >= 0 ? m0 : m0 - 11 ) / 12;
+        return DateUtil.toEpochDay(year + years, m0 - years * 12 + 1, 1) + day - 1;
+    }
+    /**
+     * ミリ秒から通算日を取得します
+     * @param millis 1970/1/1 0:00(UTC)からのミリ秒をセット
+     * @param zone 日付の区切りとするタイムゾーンをセット
+     * @return int 1970/1/1を0とした通算日が戻ります
+     */
+    public static int toEpochDay(long millis, TimeZone zone) {
+        long local = millis + zone.getOffset(millis);
+        long days = local / MILLIS_PER_DAY;
+        if ( local % MILLIS_PER_DAY < 0 ) {
+            days--;
+        }
+        return (int)days;
+    }
+    /**
+     * 通算日と時刻からミリ秒を取得します
+     * <pre>
+     *  toEpochDay(long, TimeZone)の逆変換です。夏時間の開始で存在しない時刻は
+     *  java.util.Dateの解析と同様に切り替え前の時差で求めます。(2:30は3:30になる)
+     * </pre>
+     * @param epochDay 1970/1/1を0とした通算日をセット
+     * @param hour 時をセット
+     * @param minute 分をセット
+     * @param zone 日付、時刻のタイムゾーンをセット
+     * @return long 1970/1/1 0:00(UTC)からのミリ秒が戻ります
+     */
+    public static long toEpochMillis(int epochDay, int hour, int minute, TimeZone zone) {
+        long local = epochDay * MILLIS_PER_DAY + ( hour * 60L + minute ) * 60 * 1000;
+        // 標準時で仮に求めた時刻の時差で変換し、その時刻の時差で求め直す
+        int offset = zone.getOffset(local - zone.getRawOffset());
+        return local - zone.getOffset(local - offset);
+    }
+    /**
+     * 通算日を年月日に変換します
+     * @param epochDay 1970/1/1を0とした通算日をセット
+     * @return int yyyymmdd形式の整数が戻ります
+     */
+    public static int toYmd(int epochDay) {
+        int z = epochDay + 719468;
+        int era = ( z >= 0 ? z : z - 146096 ) / 146097;
+        int doe = z - era * 146097;                                  // [0, 146096]
+        int yoe = ( doe - doe / 1460 + doe / 36524 - doe / 146096 ) / 365;
+        int doy = doe - ( 365 * yoe + yoe / 4 - yoe / 100 );          // [0, 365]
+        int mp = ( 5 * doy + 2 ) / 153;                              // [0, 11]
+        int day = doy - ( 153 * mp + 2 ) / 5 + 1;
+        int month = mp < 10 ? mp + 3 : mp - 9;
+        int year = yoe + era * 400 + ( month <= 2 ? 1 : 0 );
+        return year * 10000 + month * 100 + day;
+    }
+    /**
+     * yyyymmdd形式の整数から通算日を取得します
+     * @param ymd yyyymmdd形式の整数をセット
+     * @return int 1970/1/1を0とした通算日が戻ります
+     */
+    public static int fromYmd(int ymd) {
+        return DateUtil.toEpochDay(ymd / 10000, ( ymd / 100 ) % 100, ymd % 100);
+    }
+    /**
+     * 通算日の年を取得します
+     * @param epochDay 1970/1/1を0とした通算日をセット
+     * @return int 年が戻ります
+     */
+    public static int getYear(int epochDay) {
+        return DateUtil.toYmd(epochDay) / 10000;
+    }
+    /**
+     * 曜日を取得します
+     * @param epochDay 1970/1/1を0とした通算日をセット
+     * @return int Calendar.SUNDAY(1)～Calendar.SATURDAY(7)が戻ります
+     */
+    public static int dayOfWeek(int epochDay) {
+        // 1970/1/1は木曜日
+        int dow = ( epochDay + 4 ) % 7;
+        return ( dow < 0 ? dow + 7 : dow ) + Calendar.SUNDAY;
+    }
+    /**
+     * 曜日を取得します
+     * @param year 年をセット
+     * @param month 月(1～12)をセット
+     * @param day 日をセット
+     * @return int Calendar.SUNDAY(1)～Calendar.SATURDAY(7)が戻ります
+     */
+    public static int dayOfWeek(int year, int month, int day) {
+        return DateUtil.dayOfWeek(DateUtil.toEpochDay(year, month, day));
+    }
+}
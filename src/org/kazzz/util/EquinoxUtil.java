@@ -0,0 +1,133 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 春分日、秋分日を求める機能を提供します
+ * <pre>
+ *  1948～2150年は略算式の結果を起動時にbyte配列へ展開しておき、表引きで返します。
+ *  春分/秋分日の略算式は
+ *  『海上保安庁水路部 暦計算研究会編 新こよみ便利帳』
+ *  で紹介されている式です。
+ *  2151年以降は太陽の視黄経(SolarLongitude)から天文計算で求め、年毎にキャッシュします。
+ * </pre>
+ * @author Kazzz.
+ * @since JDK1.5 Android Level 4
+ *
+ */
+public final class EquinoxUtil {
+    private EquinoxUtil() {}
+
+    /** 日付が不明(祝日法施行前)であることを示す値 */
+    public static final int UNKNOWN = 0;
+    /** 略算式で求める最初の年 */
+    public static final int FORMULA_FIRST_YEAR = 1948;
+    /** 略算式で求める最後の年 */
+    public static final int FORMULA_LAST_YEAR = 2150;
+
+    // 略算式による春分日/秋分日 (添字は年 - FORMULA_FIRST_YEAR)
+    private static final byte[] springDays = new byte[FORMULA_LAST_YEAR - FORMULA_FIRST_YEAR + 1];
+    private static final byte[] autumnDays = new byte[FORMULA_LAST_YEAR - FORMULA_FIRST_YEAR + 1];
+    // 天文計算による春分日/秋分日 (春分日 | 秋分日 << 8)
+    private static final ConcurrentHashMap<Integer, Integer> computedDays
+        = new ConcurrentHashMap<Integer, Integer>();
+    static {
+        for ( int i = 0; i < springDays.length; i++ ) {
+            springDays[i] = (byte)EquinoxUtil.springFormula(FORMULA_FIRST_YEAR + i);
+            autumnDays[i] = (byte)EquinoxUtil.autumnFormula(FORMULA_FIRST_YEAR + i);
+        }
+    }
+
+    /**
+     * 春分日を取得します
+     * @param year 年をセット
+     * @return int 3月の日が戻ります(1948年より前の場合、UNKNOWNが戻ります)
+     */
+    public static int getSpringEquinoxDay(int year) {
+        if ( year < FORMULA_FIRST_YEAR ) {
+            return UNKNOWN;    //祝日法施行前
+        } else if ( year <= FORMULA_LAST_YEAR ) {
+            return springDays[year - FORMULA_FIRST_YEAR];
+        }
+        return EquinoxUtil.getComputedDays(year) & 0xff;
+    }
+    /**
+     * 秋分日を取得します
+     * @param year 年をセット
+     * @return int 9月の日が戻ります(1948年より前の場合、UNKNOWNが戻ります)
+     */
+    public static int getAutumnEquinoxDay(int year) {
+        if ( year < FORMULA_FIRST_YEAR ) {
+            return UNKNOWN;    //祝日法施行前
+        } else if ( year <= FORMULA_LAST_YEAR ) {
+            return autumnDays[year - FORMULA_FIRST_YEAR];
+        }
+        return EquinoxUtil.getComputedDays(year) >>> 8;
+    }
+    /**
+     * 天文計算による春分日、秋分日を取得します
+     * @param year 年をセット
+     * @return int 春分日 | 秋分日 &lt;&lt; 8 が戻ります
+     */
+    private static int getComputedDays(int year) {
+        Integer days = computedDays.get(year);
+        if ( days == null ) {
+            int spring = SolarLongitude.getEpochDay(year, 0.0) - DateUtil.toEpochDay(year, 3, 1) + 1;
+            int autumn = SolarLongitude.getEpochDay(year, 180.0) - DateUtil.toEpochDay(year, 9, 1) + 1;
+            days = Integer.valueOf(spring | autumn << 8);
+            computedDays.put(year, days);
+        }
+        return days.intValue();
+    }
+    /**
+     * 略算式で春分日を求めます
+     * @param year 年をセット
+     * @return int 3月の日が戻ります(不明な場合、UNKNOWNが戻ります)
+     */
+    private static int springFormula(int year) {
+        if ( year <= 1947 ) {
+            return UNKNOWN;    //祝日法施行前
+        } else if ( year <= 1979 ) {
+            return (int)( 20.8357 + ( 0.242194 * ( year - 1980 ) )
+                    - (int)( ( year - 1983 ) / 4 ) );
+        } else if ( year <= 2099 ) {
+            return (int)( 20.8431 + ( 0.242194 * ( year - 1980 ) )
+                    - (int)( ( year - 1980 ) / 4 ) );
+        } else if ( year <= 2150 ) {
+            return (int)( 21.851 + ( 0.242194 * ( year - 1980 ) )
+                    - (int)( ( year - 1980 ) / 4 ) );
+        }
+        return UNKNOWN;   //2151年以降は略算式が無いので不明
+    }
+    /**
+     * 略算式で秋分日を求めます
+     * @param year 年をセット
+     * @return int 9月の日が戻ります(不明な場合、UNKNOWNが戻ります)
+     */
+    private static int autumnFormula(int year) {
+        if ( year <= 1947 ) {
+            return UNKNOWN;    //祝日法施行前
+        } else if ( year <= 1979 ) {
+            return (int)( 23.2588 + ( 0.242194 * ( year - 1980 ) )
+                    - (int)( ( year - 1983 ) / 4 ) );
+        } else if ( year <= 2099 ) {
+            return (int)( 23.2488 + ( 0.242194 * ( year - 1980 ) )
+                    - (int)( ( year - 1980 ) / 4 ) );
+        } else if ( year <= 2150 ) {
+            return (int)( 24.2488 + ( 0.242194 * ( year - 1980 ) )
+                    - (int)( ( year - 1980 ) / 4 ) );
+        }
+        return UNKNOWN;   //2151年以降は略算式が無いので不明
+    }
+}
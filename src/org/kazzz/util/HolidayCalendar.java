@@ -0,0 +1,187 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.util;
+
+import java.util.Locale;
+
+/**
+ * 祝日の定義(HolidayProvider)を年毎にキャッシュして参照する機能を提供します
+ * <pre>
+ *  年毎の祝日テーブルは初回参照時に1度だけ定義から取得するので、
+ *  合成した定義(CompositeHolidayProvider)でも参照は1回の配列参照で済みます。
+ *  HolidayUtil.MIN_YEAR～HolidayUtil.MAX_YEARの年をキャッシュし、
+ *  それ以外の年は直前に参照した1年分だけを保持します。
+ *  複数のスレッドから同時に参照できます。
+ * </pre>
+ * @author Kazzz.
+ * @since JDK1.5 Android Level 4
+ *
+ */
+public class HolidayCalendar {
+    private static final HolidayCalendar defaultCalendar = 
+        new HolidayCalendar(JapaneseHolidayProvider.getInstance());
+
+    protected final HolidayProvider provider;
+    // 年毎の祝日テーブル (初回参照時に生成する)
+    private final YearTableCache yearTables;
+    // 祝日テーブルを生成した時点の祝日データベースの版数
+    private volatile int databaseVersion = HolidayUtil.getDatabaseVersion();
+
+    /**
+     * コンストラクタ
+     * @param provider 祝日の定義をセット
+     */
+    public HolidayCalendar(HolidayProvider provider) {
+        if ( provider == null ) {
+            throw new IllegalArgumentException("provider is null");
+        }
+        this.provider = provider;
+        this.yearTables = new YearTableCache(HolidayUtil.MIN_YEAR, HolidayUtil.MAX_YEAR
+                , new YearTableCache.Loader() {
+                    public HolidayYear load(int year) {
+                        return HolidayCalendar.this.loadYearTable(year);
+                    }
+                });
+    }
+    /**
+     * 国民の祝日のカレンダを取得します
+     * @return HolidayCalendar 国民の祝日(JapaneseHolidayProvider)のカレンダが戻ります
+     */
+    public static HolidayCalendar getDefault() {
+        return defaultCalendar;
+    }
+    /**
+     * providerを取得します
+     * @return HolidayProvider providerが戻ります
+     */
+    public HolidayProvider getProvider() {
+        return this.provider;
+    }
+    /**
+     * 祝日IDを取得します
+     * @param epochDay 1970/1/1を0とした通算日をセット
+     * @return int 祝日IDが戻ります(祭日では無い場合、0が戻ります)
+     */
+    public int getHolidayId(int epochDay) {
+        int year = DateUtil.getYear(epochDay);
+        HolidayYear table = this.getYearTable(year);
+        return table.getId(epochDay - table.getFirstEpochDay());
+    }
+    /**
+     * 祝日IDを取得します
+     * @param year 年をセット
+     * @param month 月(1～12)をセット
+     * @param day 日をセット
+     * @return int 祝日IDが戻ります(祭日では無い場合、0が戻ります)
+     */
+    public int getHolidayId(int year, int month, int day) {
+        if ( !DateUtil.isValidDate(year, month, day) ) {
+            throw new IllegalArgumentException(
+                    "invalid date: " + year + "/" + month + "/" + day);
+        }
+        return this.getYearTable(year).getId(DateUtil.dayOfYear(year, month, day) - 1);
+    }
+    /**
+     * 祭日か否かを判定します
+     * @param epochDay 1970/1/1を0とした通算日をセット
+     * @return boolean 祭日の場合trueが戻ります
+     */
+    public boolean isHoliday(int epochDay) {
+        return this.getHolidayId(epochDay) != 0;
+    }
+    /**
+     * 月内の休日(日曜日又は祭日)をビットで表した値を取得します
+     * <pre>
+     *  ビットd(1～31)がd日に対応します。(ビット0は使用しません)
+     *  値は年毎の祝日テーブルに保持しているので、1月分を配列参照1回で判定できます。
+     * </pre>
+     * @param year 年をセット
+     * @param month 月(1～12)をセット
+     * @return int 休日のビットを立てた値が戻ります
+     */
+    public int monthHolidayMask(int year, int month) {
+        HolidayCalendar.checkMonth(month);
+        return this.getYearTable(year).getHolidayMask(month);
+    }
+    /**
+     * 月内の祭日(名前のある祝日)をビットで表した値を取得します
+     * @param year 年をセット
+     * @param month 月(1～12)をセット
+     * @return int 祭日のビット(ビットd(1～31)がd日)を立てた値が戻ります
+     */
+    public int monthNamedHolidayMask(int year, int month) {
+        HolidayCalendar.checkMonth(month);
+        return this.getYearTable(year).getNamedHolidayMask(month);
+    }
+    /**
+     * 祝日IDに対応する祭日名を取得します
+     * @param holidayId 祝日IDをセット
+     * @return String 祭日名が戻ります(0の場合、空文字が戻ります)
+     */
+    public String getHolidayName(int holidayId) {
+        return this.provider.getHolidayName(holidayId);
+    }
+    /**
+     * 祝日IDに対応する、ロケールに応じた祭日名を取得します
+     * @param holidayId 祝日IDをセット
+     * @param locale ロケールをセット
+     * @return String 祭日名が戻ります(0の場合、空文字が戻ります)
+     */
+    public String getHolidayName(int holidayId, Locale locale) {
+        return this.provider.getHolidayName(holidayId, locale);
+    }
+    /**
+     * 月の範囲を検査します
+     * @param month 月をセット
+     */
+    static void checkMonth(int month) {
+        if ( month < 1 || month > 12 ) {
+            throw new IllegalArgumentException("invalid month: " + month);
+        }
+    }
+    /**
+     * 対象年の祝日テーブルを取得します
+     * <pre>
+     *  参照はロックを取らず、生成は1年につき1度だけ行います。(YearTableCache)
+     *  範囲外の年は直近に参照した数年分を保持します。(YearTableCache.FAR_YEARS)
+     *  祝日データベース(HolidayUtil.setDatabase)が変更されていれば、
+     *  生成済みのテーブルを破棄して生成し直します。
+     * </pre>
+     * @param year 年をセット
+     * @return HolidayYear 祝日テーブルが戻ります
+     */
+    HolidayYear getYearTable(int year) {
+        boolean inRange = year >= HolidayUtil.MIN_YEAR && year <= HolidayUtil.MAX_YEAR;
+        if ( inRange && this.provider == JapaneseHolidayProvider.getInstance() ) {
+            //国民の祝日はHolidayUtilのテーブルをそのまま使う(祝日データベースの設定に追従する)
+            return HolidayUtil.getYearTable(year);
+        }
+        int version = HolidayUtil.getDatabaseVersion();
+        if ( version != this.databaseVersion ) {
+            this.yearTables.clear();
+            this.databaseVersion = version;
+        }
+        return this.yearTables.get(year);
+    }
+    /**
+     * 祝日の定義から1年分の祝日テーブルを取得します
+     * @param year 年をセット
+     * @return HolidayYear 祝日テーブルが戻ります
+     */
+    private HolidayYear loadYearTable(int year) {
+        byte[] ids = this.provider.getHolidayIds(year);
+        if ( ids.length != DateUtil.lengthOfYear(year) ) {
+            throw new IllegalStateException("invalid holiday table: " + year);
+        }
+        return new HolidayYear(year, ids);
+    }
+}
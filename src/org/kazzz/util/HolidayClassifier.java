@@ -0,0 +1,216 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * 大量の日付の祝日IDを一括して求める機能を提供します
+ * <pre>
+ *  int[]の通算日又はyyyymmddから、同じ添字のbyte[]に祝日IDを格納します。
+ *  直前の日付と同じ年の間は祝日テーブルを引き直さないので、
+ *  日付順に近い配列ほど速く処理できます。オブジェクトは生成しません。
+ *  ExecutorServiceを指定すると、配列を分割して並列に処理します。
+ * </pre>
+ * @author Kazzz.
+ * @since JDK1.5 Android Level 4
+ *
+ */
+public class HolidayClassifier {
+    /** 並列処理で1つのタスクが受け持つ要素数 */
+    public static final int CHUNK_SIZE = 1 << 16;
+
+    protected final HolidayCalendar holidays;
+
+    /**
+     * コンストラクタ (国民の祝日で判定する)
+     */
+    public HolidayClassifier() {
+        this(HolidayCalendar.getDefault());
+    }
+    /**
+     * コンストラクタ
+     * @param holidays 判定に使用するカレンダをセット
+     */
+    public HolidayClassifier(HolidayCalendar holidays) {
+        if ( holidays == null ) {
+            throw new IllegalArgumentException("holidays is null");
+        }
+        this.holidays = holidays;
+    }
+    /**
+     * 通算日の配列の祝日IDを求めます
+     * @param epochDays 通算日の配列をセット
+     * @param offset 処理する最初の添字をセット
+     * @param length 処理する要素数をセット
+     * @param ids 祝日IDの格納先をセット
+     * @param idOffset 格納先の最初の添字をセット
+     */
+    public void classifyEpochDays(int[] epochDays, int offset, int length
+            , byte[] ids, int idOffset) {
+        HolidayClassifier.checkBounds(epochDays.length, offset, length, ids.length, idOffset);
+        HolidayYear table = null;
+        int first = 0;
+        int end = 0;
+        for ( int i = 0; i < length; i++ ) {
+            int epochDay = epochDays[offset + i];
+            if ( epochDay < first || epochDay >= end || table == null ) {
+                table = this.holidays.getYearTable(DateUtil.getYear(epochDay));
+                first = table.getFirstEpochDay();
+                end = first + table.length();
+            }
+            ids[idOffset + i] = (byte)table.getId(epochDay - first);
+        }
+    }
+    /**
+     * yyyymmdd形式の日付の配列の祝日IDを求めます
+     * @param ymds yyyymmdd形式の日付の配列をセット
+     * @param offset 処理する最初の添字をセット
+     * @param length 処理する要素数をセット
+     * @param ids 祝日IDの格納先をセット
+     * @param idOffset 格納先の最初の添字をセット
+     * @throws IllegalArgumentException 存在しない日付が含まれていた場合
+     */
+    public void classifyYmd(int[] ymds, int offset, int length
+            , byte[] ids, int idOffset) {
+        HolidayClassifier.checkBounds(ymds.length, offset, length, ids.length, idOffset);
+        HolidayYear table = null;
+        for ( int i = 0; i < length; i++ ) {
+            int ymd = ymds[offset + i];
+            int year = ymd / 10000;
+            int month = ( ymd / 100 ) % 100;
+            int day = ymd % 100;
+            if ( !DateUtil.isValidDate(year, month, day) ) {
+                throw new IllegalArgumentException("invalid date: " + ymd);
+            }
+            if ( table == null || table.getYear() != year ) {
+                table = this.holidays.getYearTable(year);
+            }
+            ids[idOffset + i] = (byte)table.getId(DateUtil.dayOfYear(year, month, day) - 1);
+        }
+    }
+    /**
+     * 通算日の配列の祝日IDを並列に求めます
+     * @param epochDays 通算日の配列をセット
+     * @param ids 祝日IDの格納先(epochDaysと同じ長さ)をセット
+     * @param executor 分割したタスクを実行するExecutorServiceをセット
+     * @throws InterruptedException 完了を待つ間に割り込まれた場合
+     */
+    public void classifyEpochDays(int[] epochDays, byte[] ids, ExecutorService executor)
+            throws InterruptedException {
+        this.classifyInParallel(epochDays, ids, executor, false);
+    }
+    /**
+     * yyyymmdd形式の日付の配列の祝日IDを並列に求めます
+     * @param ymds yyyymmdd形式の日付の配列をセット
+     * @param ids 祝日IDの格納先(ymdsと同じ長さ)をセット
+     * @param executor 分割したタスクを実行するExecutorServiceをセット
+     * @throws InterruptedException 完了を待つ間に割り込まれた場合
+     * @throws IllegalArgumentException 存在しない日付が含まれていた場合
+     */
+    public void classifyYmd(int[] ymds, byte[] ids, ExecutorService executor)
+            throws InterruptedException {
+        this.classifyInParallel(ymds, ids, executor, true);
+    }
+    /**
+     * 配列をCHUNK_SIZE毎に分割して並列に処理します
+     * <pre>
+     *  分割した範囲は重ならないので、格納先の同期は不要です。
+     *  (Future.getの完了待ちで、全ての書き込みが呼び出し側から見えるようになります)
+     * </pre>
+     * @param dates 日付の配列をセット
+     * @param ids 祝日IDの格納先をセット
+     * @param executor タスクを実行するExecutorServiceをセット
+     * @param ymd yyyymmdd形式の場合trueをセット
+     * @throws InterruptedException 完了を待つ間に割り込まれた場合
+     */
+    private void classifyInParallel(final int[] dates, final byte[] ids
+            , ExecutorService executor, final boolean ymd) throws InterruptedException {
+        if ( dates.length != ids.length ) {
+            throw new IllegalArgumentException(
+                    "length mismatch: " + dates.length + " != " + ids.length);
+        }
+        if ( dates.length <= CHUNK_SIZE ) {
+            this.classify(dates, ids, 0, dates.length, ymd);
+            return;
+        }
+        List<Future<Object>> futures = new ArrayList<Future<Object>>();
+        for ( int start = 0; start < dates.length; start += CHUNK_SIZE ) {
+            final int from = start;
+            final int length = Math.min(CHUNK_SIZE, dates.length - start);
+            futures.add(executor.submit(new Callable<Object>() {
+                public Object call() {
+                    HolidayClassifier.this.classify(dates, ids, from, length, ymd);
+                    return null;
+                }
+            }));
+        }
+        try {
+            for ( Future<Object> future : futures ) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            for ( Future<Object> future : futures ) {
+                future.cancel(false);
+            }
+            Throwable cause = e.getCause();
+            if ( cause instanceof RuntimeException ) {
+                throw (RuntimeException)cause;
+            }
+            if ( cause instanceof Error ) {
+                throw (Error)cause;
+            }
+            throw new IllegalStateException(String.valueOf(cause));
+        } catch (InterruptedException e) {
+            for ( Future<Object> future : futures ) {
+                future.cancel(true);
+            }
+            throw e;
+        }
+    }
+    /**
+     * 配列の範囲を処理します
+     * @param dates 日付の配列をセット
+     * @param ids 祝日IDの格納先をセット
+     * @param offset 処理する最初の添字をセット
+     * @param length 処理する要素数をセット
+     * @param ymd yyyymmdd形式の場合trueをセット
+     */
+    private void classify(int[] dates, byte[] ids, int offset, int length, boolean ymd) {
+        if ( ymd ) {
+            this.classifyYmd(dates, offset, length, ids, offset);
+        } else {
+            this.classifyEpochDays(dates, offset, length, ids, offset);
+        }
+    }
+    /**
+     * 配列の範囲を検査します
+     * @param srcLength 入力の配列の長さをセット
+     * @param offset 入力の最初の添字をセット
+     * @param length 要素数をセット
+     * @param destLength 格納先の配列の長さをセット
+     * @param destOffset 格納先の最初の添字をセット
+     */
+    private static void checkBounds(int srcLength, int offset, int length
+            , int destLength, int destOffset) {
+        if ( offset < 0 || length < 0 || destOffset < 0
+                || offset > srcLength - length || destOffset > destLength - length ) {
+            throw new ArrayIndexOutOfBoundsException(
+                    "offset: " + offset + ", length: " + length + ", destOffset: " + destOffset);
+        }
+    }
+}
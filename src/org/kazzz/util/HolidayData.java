@@ -0,0 +1,332 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.util;
+
+/**
+ * 生成済みの祝日データを提供します
+ * <pre>
+ *  このファイルはHolidayTableGeneratorが生成したものです。直接編集しないでください。
+ *  (祝日判定ロジックを変更した場合は tools/build.xml の generate を実行する)
+ * </pre>
+ * @author Kazzz.
+ * @since JDK1.5 Android Level 4
+ *
+ */
+final class HolidayData {
+    private HolidayData() {}
+
+    /** 収録している最初の年 */
+    static final int FIRST_YEAR = 1948;
+    /** 収録している最後の年 */
+    static final int LAST_YEAR = 2150;
+    /** 収録している祝日の総数 */
+    static final int TOTAL = 3320;
+    /** 1文字の内、祝日IDに割り当てるビット数 */
+    static final int ID_BITS = 6;
+
+    /** 年毎に[祝日数]、祝日毎に[通日 << ID_BITS | 祝日ID] */
+    static final String PACKED =
+        "\003\u428e\u4cd1\u51d2\011\001\u0382\u13c5\u1d87\u1e89\u1f0b\u424e"
+        + "\u4c91\u5192\011\001\u0382\u13c5\u1d87\u1e89\u1f0b\u424e\u4c91\u5192"
+        + "\011\001\u0382\u13c5\u1d87\u1e89\u1f0b\u428e\u4c91\u5192\011\001"
+        + "\u0382\u1405\u1dc7\u1ec9\u1f4b\u428e\u4cd1\u51d2\011\001\u0382\u13c5"
+        + "\u1d87\u1e89\u1f0b\u424e\u4c91\u5192\011\001\u0382\u13c5\u1d87\u1e89"
+        + "\u1f0b\u424e\u4c91\u5192\011\001\u0382\u13c5\u1d87\u1e89\u1f0b\u428e"
+        + "\u4c91\u5192\011\001\u0382\u1405\u1dc7\u1ec9\u1f4b\u428e\u4cd1\u51d2"
+        + "\011\001\u0382\u13c5\u1d87\u1e89\u1f0b\u424e\u4c91\u5192\011\001"
+        + "\u0382\u13c5\u1d87\u1e89\u1f0b\u424e\u4c91\u5192\012\001\u0382\u13c5"
+        + "\u18c8\u1d87\u1e89\u1f0b\u428e\u4c91\u5192\011\001\u0382\u13c5\u1dc7"
+        + "\u1ec9\u1f4b\u428e\u4cd1\u51d2\011\001\u0382\u13c5\u1d87\u1e89\u1f0b"
+        + "\u424e\u4c91\u5192\011\001\u0382\u13c5\u1d87\u1e89\u1f0b\u424e\u4c91"
+        + "\u5192\011\001\u0382\u13c5\u1d87\u1e89\u1f0b\u428e\u4c91\u5192\011"
+        + "\001\u0382\u13c5\u1dc7\u1ec9\u1f4b\u428e\u4cd1\u51d2\011\001\u0382"
+        + "\u13c5\u1d87\u1e89\u1f0b\u424e\u4c91\u5192\013\001\u0382\u13c5\u1d87"
+        + "\u1e89\u1f0b\u404f\u424e\u4690\u4c91\u5192\014\001\u0382\u0a43\u13c5"
+        + "\u1d87\u1e89\u1f0b\u404f\u428e\u4690\u4c91\u5192\014\001\u0382\u0a43"
+        + "\u13c5\u1dc7\u1ec9\u1f4b\u408f\u428e\u46d0\u4cd1\u51d2\014\001\u0382"
+        + "\u0a43\u13c5\u1d87\u1e89\u1f0b\u404f\u424e\u4690\u4c91\u5192\014\001"
+        + "\u0382\u0a43\u13c5\u1d87\u1e89\u1f0b\u404f\u424e\u4690\u4c91\u5192\014"
+        + "\001\u0382\u0a43\u13c5\u1d87\u1e89\u1f0b\u404f\u428e\u4690\u4c91\u5192"
+        + "\014\001\u0382\u0a43\u13c5\u1dc7\u1ec9\u1f4b\u408f\u428e\u46d0\u4cd1"
+        + "\u51d2\016\001\u0382\u0a43\u13c5\u1d87\u1dd4\u1e89\u1f0b\u404f\u424e"
+        + "\u4294\u4690\u4c91\u5192\017\001\u0382\u0a43\u13c5\u1d87\u1e89\u1f0b"
+        + "\u1f54\u404f\u4094\u424e\u4690\u4c91\u4cd4\u5192\015\001\u0382\u0a43"
+        + "\u13c5\u1d87\u1e89\u1f0b\u404f\u428e\u4690\u4c91\u5192\u51d4\015\001"
+        + "\u0382\u0a43\u13c5\u1dc7\u1ec9\u1f4b\u408f\u428e\u46d0\u4714\u4cd1\u51d2"
+        + "\014\001\u0382\u0a43\u13c5\u1d87\u1e89\u1f0b\u404f\u424e\u4690\u4c91"
+        + "\u5192\016\001\124\u0382\u03d4\u0a43\u13c5\u1d87\u1e89\u1f0b\u404f"
+        + "\u424e\u4690\u4c91\u5192\016\001\u0382\u0a43\u0a94\u13c5\u1d87\u1dd4"
+        + "\u1e89\u1f0b\u404f\u428e\u4690\u4c91\u5192\015\001\u0382\u0a43\u13c5"
+        + "\u1dc7\u1ec9\u1f4b\u408f\u428e\u46d0\u4cd1\u51d2\u5214\015\001\u0382"
+        + "\u0a43\u13c5\u1d87\u1e89\u1ed4\u1f0b\u404f\u424e\u4690\u4c91\u5192\016"
+        + "\001\u0382\u0a43\u13c5\u1414\u1d87\u1e89\u1f0b\u404f\u424e\u4690\u46d4"
+        + "\u4c91\u5192\014\001\u0382\u0a43\u13c5\u1d87\u1e89\u1f0b\u404f\u424e"
+        + "\u4690\u4c91\u5192\020\001\124\u0382\u03d4\u0a43\u13c5\u1dc7\u1e14"
+        + "\u1ec9\u1f4b\u408f\u428e\u42d4\u46d0\u4cd1\u51d2\017\001\u0382\u0a43"
+        + "\u13c5\u1d87\u1e89\u1f0b\u1f54\u404f\u4094\u424e\u4690\u4c91\u4cd4\u5192"
+        + "\015\001\u0382\u0a43\u13c5\u1d87\u1e89\u1f0b\u404f\u424e\u4690\u4c91"
+        + "\u5192\u51d4\015\001\u0382\u0a43\u13c5\u1d87\u1e89\u1ed4\u1f0b\u404f"
+        + "\u424e\u4690\u4c91\u5192\016\001\u0382\u0a43\u13c5\u1414\u1dc7\u1ec9"
+        + "\u1f0a\u1f4b\u408f\u428e\u46d0\u4cd1\u51d2\021\001\124\u0382\u03d4"
+        + "\u0a43\u0d84\u13c5\u1d86\u1e89\u1eca\u1f0b\u404f\u424e\u4690\u4c91\u5192"
+        + "\u5907\023\001\u0382\u0a43\u0a94\u13c5\u1d86\u1dd4\u1e89\u1eca\u1f0b"
+        + "\u404f\u424e\u4294\u4690\u4c91\u4ed3\u5192\u5907\u5954\021\001\u0382"
+        + "\u0a43\u13c5\u1d86\u1e89\u1eca\u1f0b\u1f54\u404f\u4094\u424e\u4690\u4c91"
+        + "\u4cd4\u5192\u5907\016\001\u0382\u0a43\u13c5\u1dc6\u1ec9\u1f14\u1f4b"
+        + "\u408f\u428e\u46d0\u4cd1\u51d2\u5947\020\001\u0382\u0a43\u1385\u1d86"
+        + "\u1e89\u1eca\u1f0b\u27cc\u404f\u424e\u4690\u46d4\u4c91\u5192\u5907\016"
+        + "\001\u0382\u0a43\u13c5\u1d86\u1e89\u1eca\u1f0b\u404f\u424e\u4690\u4c91"
+        + "\u5192\u5907\020\001\124\u0382\u03d4\u0a43\u13c5\u1d86\u1e89\u1eca"
+        + "\u1f0b\u404f\u424e\u4690\u4c91\u5192\u5907\023\001\u0382\u0a43\u0a94"
+        + "\u13c5\u1dc6\u1ec9\u1f0a\u1f4b\u1f94\u324d\u408f\u40d4\u428e\u46d0\u4cd1"
+        + "\u4d14\u51d2\u5947\020\001\u0382\u0a43\u1385\u1d86\u1e89\u1f0b\u320d"
+        + "\u3254\u404f\u424e\u4690\u4c91\u5192\u51d4\u5907\017\001\u0382\u0a43"
+        + "\u13c5\u1d86\u1e89\u1ed4\u1f0b\u320d\u404f\u424e\u4690\u4c91\u5192\u5907"
+        + "\021\001\u0382\u0a43\u13c5\u1414\u1d86\u1e89\u1eca\u1f0b\u320d\u404f"
+        + "\u424e\u4690\u46d4\u4c91\u5192\u5907\017\001\u0242\u0a43\u13c5\u1dc6"
+        + "\u1ec9\u1f0a\u1f4b\u324d\u408f\u428e\u4690\u4cd1\u51d2\u5947\023\001"
+        + "\u01c2\u0a43\u0a94\u1385\u1d86\u1dd4\u1e89\u1eca\u1f0b\u320d\u404f\u424e"
+        + "\u4294\u4610\u4c91\u5192\u5907\u5954\022\001\u0342\u0a43\u13c5\u1d86"
+        + "\u1e89\u1eca\u1f0b\u1f54\u320d\u404f\u4094\u424e\u4790\u4c91\u4cd4\u5192"
+        + "\u5907\017\001\u0302\u0a43\u13c5\u1d86\u1e89\u1f0b\u324d\u404f\u424e"
+        + "\u4750\u4c91\u5192\u51d4\u5907\017\001\u02c2\u0a43\u13c5\u1dc6\u1ec9"
+        + "\u1f0a\u1f4b\u320d\u41cf\u428e\u4710\u4cd1\u51d2\u5947\020\001\u0242"
+        + "\u0a43\u1385\u13d4\u1d86\u1e89\u1eca\u1f0b\u318d\u414f\u424e\u4690\u4c91"
+        + "\u5192\u5907\020\001\124\u0202\u0a43\u13c5\u1d86\u1e89\u1eca\u1f0b"
+        + "\u314d\u410f\u424e\u4650\u4c91\u5192\u5907\023\001\u01c2\u0a43\u0a94"
+        + "\u13c5\u1d95\u1dd4\u1e89\u1ec6\u1f0b\u310d\u40cf\u424e\u4294\u4610\u4c91"
+        + "\u5192\u5907\u5954\021\001\u0342\u0a43\u13c5\u1dd5\u1ec9\u1f06\u1f4b"
+        + "\u1f94\u328d\u408f\u428e\u4790\u4cd1\u51d2\u5214\u5947\021\001\u02c2"
+        + "\u0a43\u1385\u1d95\u1e89\u1ec6\u1f0b\u1f54\u320d\u41cf\u420a\u424e\u4710"
+        + "\u4c91\u5192\u5907\020\001\u0282\u0a43\u13c5\u1414\u1d95\u1e89\u1ec6"
+        + "\u1f0b\u31cd\u418f\u424e\u46d0\u4c91\u5192\u5907\017\001\u0242\u0a43"
+        + "\u13c5\u1d95\u1e89\u1ec6\u1f0b\u318d\u414f\u424e\u4690\u4c91\u5192\u5907"
+        + "\022\001\124\u0202\u0a43\u13c5\u1dd5\u1e14\u1ec9\u1f06\u1f4b\u314d"
+        + "\u410f\u424e\u4650\u4cd1\u51d2\u5947\u5994\021\001\u0342\u0a43\u1385"
+        + "\u1d95\u1e89\u1ec6\u1f0b\u1f54\u30cd\u408f\u424e\u4790\u4c91\u4cd4\u5192"
+        + "\u5907\021\001\u0302\u0a43\u13c5\u1d95\u1e89\u1ec6\u1f0b\u1f54\u324d"
+        + "\u404f\u424e\u4750\u4c91\u5192\u51d4\u5907\021\001\u02c2\u0a43\u13c5"
+        + "\u1d95\u1e89\u1ec6\u1f0b\u1f54\u320d\u41cf\u420a\u424e\u4710\u4c91\u5192"
+        + "\u5907\021\001\u0282\u0a43\u13c5\u1414\u1dd5\u1ec9\u1f06\u1f4b\u31cd"
+        + "\u37d6\u418f\u424e\u46d0\u4cd1\u51d2\u5947\021\001\124\u0202\u0a43"
+        + "\u1385\u1d95\u1e89\u1ec6\u1f0b\u314d\u3796\u410f\u424e\u4650\u4c91\u5192"
+        + "\u5907\024\001\u01c2\u0a43\u0a94\u13c5\u1d95\u1dd4\u1e89\u1ec6\u1f0b"
+        + "\u310d\u3796\u40cf\u424e\u4294\u4610\u4c91\u5192\u5907\u5954\026\001"
+        + "\u0342\u0a43\u13c5\u1d95\u1dca\u1e17\u1e4a\u1e89\u1ec6\u1f0b\u1f54\u30cd"
+        + "\u3796\u37d4\u408f\u424e\u4790\u4993\u4c91\u4cd4\u5192\022\001\u0302"
+        + "\u0a43\u0d47\u0d94\u13c5\u1dd5\u1ec9\u1f06\u1f4b\u1f94\u330d\u3358\u3796"
+        + "\u420f\u424e\u4cd1\u51d2\021\001\u0282\u0a43\u0d47\u1385\u1d95\u1e89"
+        + "\u1ec6\u1f0b\u328d\u32d8\u36d6\u3714\u418f\u424e\u4c91\u5192\020\001"
+        + "\u0242\u0a43\u0d47\u13c5\u1d95\u1e89\u1ec6\u1f0b\u318d\u3796\u414f\u424e"
+        + "\u4698\u4c91\u5192\021\001\124\u0202\u0a43\u0d47\u13c5\u1d95\u1e89"
+        + "\u1ec6\u1f0b\u314d\u3796\u410f\u424e\u4658\u4c91\u5192\025\001\u01c2"
+        + "\u0a43\u0a94\u0d47\u13c5\u1dd5\u1ec9\u1f06\u1f4b\u1f94\u310d\u37d6\u3814"
+        + "\u40cf\u424e\u4294\u47d8\u4cd1\u4d14\u51d2\023\001\u0302\u0a43\u0d47"
+        + "\u0d94\u1385\u1d95\u1e89\u1ec6\u1f0b\u1f54\u324d\u3796\u404f\u424e\u4758"
+        + "\u4c91\u5192\u51d4\022\001\u02c2\u0a43\u0d47\u1385\u1d95\u1e89\u1ec6"
+        + "\u1f0b\u1f54\u320d\u3796\u41cf\u420a\u424e\u4718\u4c91\u5192\021\001"
+        + "\u0282\u0a43\u0d47\u13c5\u1414\u1d95\u1e89\u1ec6\u1f0b\u31cd\u3796\u418f"
+        + "\u424e\u46d8\u4c91\u5192\020\001\u0242\u0a43\u0d47\u13c5\u1dd5\u1ec9"
+        + "\u1f06\u1f4b\u318d\u37d6\u414f\u424e\u4698\u4cd1\u51d2\023\001\u01c2"
+        + "\u0a43\u0a94\u0d47\u1385\u1d95\u1dd4\u1e89\u1ec6\u1f0b\u310d\u3796\u40cf"
+        + "\u424e\u4294\u4618\u4c91\u5192\023\001\u0342\u0a43\u0d47\u1385\u1d95"
+        + "\u1e89\u1ec6\u1f0b\u1f54\u30cd\u3796\u37d4\u408f\u424e\u4798\u4c91\u4cd4"
+        + "\u5192\023\001\u0302\u0a43\u0d47\u0d94\u13c5\u1d95\u1e89\u1ec6\u1f0b"
+        + "\u1f54\u324d\u3796\u404f\u424e\u4758\u4c91\u5192\u51d4\021\001\u02c2"
+        + "\u0a43\u0d47\u13c5\u1dd5\u1ec9\u1f06\u1f4b\u320d\u37d6\u41cf\u420a\u424e"
+        + "\u4718\u4cd1\u51d2\021\001\u0242\u0a43\u0d47\u1385\u13d4\u1d95\u1e89"
+        + "\u1ec6\u1f0b\u318d\u3796\u414f\u424e\u4698\u4c91\u5192\021\001\124"
+        + "\u0202\u0a43\u0d47\u1385\u1d95\u1e89\u1ec6\u1f0b\u314d\u3796\u410f\u424e"
+        + "\u4658\u4c91\u5192\023\001\u01c2\u0a43\u0a94\u0d47\u13c5\u1d95\u1dd4"
+        + "\u1e89\u1ec6\u1f0b\u310d\u3796\u40cf\u424e\u4294\u4618\u4c91\u5192\022"
+        + "\001\u0342\u0a43\u0d47\u13c5\u1dd5\u1ec9\u1f06\u1f4b\u1f94\u328d\u37d6"
+        + "\u408f\u424e\u4798\u4cd1\u51d2\u5214\022\001\u02c2\u0a43\u0d47\u1385"
+        + "\u1d95\u1e89\u1ec6\u1f0b\u1f54\u320d\u3796\u41cf\u420a\u424e\u4718\u4c91"
+        + "\u5192\020\001\u0282\u0a43\u0d47\u1385\u1d95\u1e89\u1ec6\u1f0b\u31cd"
+        + "\u3796\u418f\u424e\u46d8\u4c91\u5192\020\001\u0242\u0a43\u0d47\u13c5"
+        + "\u1d95\u1e89\u1ec6\u1f0b\u318d\u3796\u414f\u424e\u4698\u4c91\u5192\022"
+        + "\001\124\u0202\u0a43\u0d47\u13c5\u1dd5\u1e14\u1ec9\u1f06\u1f4b\u314d"
+        + "\u37d6\u410f\u424e\u4658\u4cd1\u51d2\023\001\u0342\u0a43\u0d47\u1385"
+        + "\u1d95\u1e89\u1ec6\u1f0b\u1f54\u30cd\u3796\u37d4\u408f\u424e\u4798\u4c91"
+        + "\u4cd4\u5192\023\001\u0302\u0a43\u0d47\u0d94\u1385\u1d95\u1e89\u1ec6"
+        + "\u1f0b\u1f54\u324d\u3796\u404f\u424e\u4758\u4c91\u5192\u51d4\022\001"
+        + "\u02c2\u0a43\u0d47\u13c5\u1d95\u1e89\u1ec6\u1f0b\u1f54\u320d\u3796\u41cf"
+        + "\u420a\u424e\u4718\u4c91\u5192\021\001\u0282\u0a43\u0d47\u13c5\u1414"
+        + "\u1dd5\u1ec9\u1f06\u1f4b\u31cd\u37d6\u418f\u424e\u46d8\u4cd1\u51d2\021"
+        + "\001\124\u0202\u0a43\u0d47\u1385\u1d95\u1e89\u1ec6\u1f0b\u314d\u3796"
+        + "\u410f\u420e\u4658\u4c91\u5192\023\001\u01c2\u0a43\u0a94\u0d47\u1385"
+        + "\u1d95\u1dd4\u1e89\u1ec6\u1f0b\u310d\u3796\u40cf\u424e\u4294\u4618\u4c91"
+        + "\u5192\023\001\u0342\u0a43\u0d47\u13c5\u1d95\u1e89\u1ec6\u1f0b\u1f54"
+        + "\u30cd\u3796\u37d4\u408f\u424e\u4798\u4c91\u4cd4\u5192\022\001\u0302"
+        + "\u0a43\u0d47\u0d94\u13c5\u1dd5\u1ec9\u1f06\u1f4b\u1f94\u324d\u37d6\u420f"
+        + "\u424e\u4758\u4cd1\u51d2\021\001\u0282\u0a43\u0d47\u1385\u1d95\u1e89"
+        + "\u1ec6\u1f0b\u31cd\u3796\u418f\u41ca\u420e\u46d8\u4c91\u5192\021\001"
+        + "\u0242\u0a43\u0d47\u1385\u13d4\u1d95\u1e89\u1ec6\u1f0b\u318d\u3796\u414f"
+        + "\u424e\u4698\u4c91\u5192\021\001\124\u0202\u0a43\u0d47\u13c5\u1d95"
+        + "\u1e89\u1ec6\u1f0b\u314d\u3796\u410f\u424e\u4658\u4c91\u5192\025\001"
+        + "\u01c2\u0a43\u0a94\u0d47\u13c5\u1dd5\u1ec9\u1f06\u1f4b\u1f94\u310d\u37d6"
+        + "\u3814\u40cf\u424e\u4294\u47d8\u4cd1\u4d14\u51d2\023\001\u0302\u0a43"
+        + "\u0d47\u0d94\u1385\u1d95\u1e89\u1ec6\u1f0b\u1f54\u324d\u3796\u404f\u420e"
+        + "\u4758\u4c91\u5192\u51d4\022\001\u02c2\u0a43\u0d47\u1385\u1d95\u1e89"
+        + "\u1ec6\u1f0b\u1f54\u320d\u3796\u41cf\u420a\u424e\u4718\u4c91\u5192\021"
+        + "\001\u0282\u0a43\u0d47\u13c5\u1414\u1d95\u1e89\u1ec6\u1f0b\u31cd\u3796"
+        + "\u418f\u424e\u46d8\u4c91\u5192\020\001\u0242\u0a43\u0d47\u13c5\u1dd5"
+        + "\u1ec9\u1f06\u1f4b\u318d\u37d6\u414f\u424e\u4698\u4cd1\u51d2\022\001"
+        + "\u01c2\u0a43\u0a94\u0d47\u1385\u1d95\u1dd4\u1e89\u1ec6\u1f0b\u310d\u3796"
+        + "\u40cf\u420e\u4618\u4c91\u5192\023\001\u0342\u0a43\u0d47\u1385\u1d95"
+        + "\u1e89\u1ec6\u1f0b\u1f54\u30cd\u3796\u37d4\u408f\u424e\u4798\u4c91\u4cd4"
+        + "\u5192\023\001\u0302\u0a43\u0d47\u0d94\u1385\u1d95\u1e89\u1ec6\u1f0b"
+        + "\u1f54\u324d\u3796\u404f\u424e\u4758\u4c91\u5192\u51d4\021\001\u02c2"
+        + "\u0a43\u0d47\u13c5\u1dd5\u1ec9\u1f06\u1f4b\u320d\u37d6\u41cf\u420a\u424e"
+        + "\u4718\u4cd1\u51d2\021\001\u0242\u0a43\u0d47\u1385\u13d4\u1d95\u1e89"
+        + "\u1ec6\u1f0b\u318d\u3796\u414f\u420e\u4698\u4c91\u5192\021\001\124"
+        + "\u0202\u0a43\u0d47\u1385\u1d95\u1e89\u1ec6\u1f0b\u314d\u3796\u410f\u424e"
+        + "\u4658\u4c91\u5192\023\001\u01c2\u0a43\u0a94\u0d47\u1385\u1d95\u1dd4"
+        + "\u1e89\u1ec6\u1f0b\u310d\u3796\u40cf\u424e\u4294\u4618\u4c91\u5192\022"
+        + "\001\u0342\u0a43\u0d47\u13c5\u1dd5\u1ec9\u1f06\u1f4b\u1f94\u328d\u37d6"
+        + "\u408f\u424e\u4798\u4cd1\u51d2\u5214\021\001\u02c2\u0a43\u0d47\u1385"
+        + "\u1d95\u1e89\u1ec6\u1f0b\u1f54\u320d\u3796\u41cf\u420e\u4718\u4c91\u5192"
+        + "\020\001\u0282\u0a43\u0d47\u1385\u1d95\u1e89\u1ec6\u1f0b\u31cd\u3796"
+        + "\u418f\u424e\u46d8\u4c91\u5192\021\001\u0242\u0a43\u0d47\u1385\u13d4"
+        + "\u1d95\u1e89\u1ec6\u1f0b\u318d\u3796\u414f\u424e\u4698\u4c91\u5192\022"
+        + "\001\124\u0202\u0a43\u0d47\u13c5\u1dd5\u1e14\u1ec9\u1f06\u1f4b\u314d"
+        + "\u37d6\u410f\u424e\u4658\u4cd1\u51d2\024\001\u0342\u0a43\u0d47\u1385"
+        + "\u1d95\u1e89\u1ec6\u1f0b\u1f54\u30cd\u3796\u37d4\u408f\u420e\u4254\u4798"
+        + "\u4c91\u4cd4\u5192\023\001\u0302\u0a43\u0d47\u0d94\u1385\u1d95\u1e89"
+        + "\u1ec6\u1f0b\u1f54\u324d\u3796\u404f\u424e\u4758\u4c91\u5192\u51d4\022"
+        + "\001\u02c2\u0a43\u0d47\u1385\u1d95\u1e89\u1ec6\u1f0b\u1f54\u320d\u3796"
+        + "\u41cf\u420a\u424e\u4718\u4c91\u5192\021\001\u0282\u0a43\u0d47\u13c5"
+        + "\u1414\u1dd5\u1ec9\u1f06\u1f4b\u31cd\u37d6\u418f\u424e\u46d8\u4cd1\u51d2"
+        + "\021\001\124\u0202\u0a43\u0d47\u1385\u1d95\u1e89\u1ec6\u1f0b\u314d"
+        + "\u3796\u410f\u420e\u4658\u4c91\u5192\023\001\u01c2\u0a43\u0a94\u0d47"
+        + "\u1385\u1d95\u1dd4\u1e89\u1ec6\u1f0b\u310d\u3796\u40cf\u424e\u4294\u4618"
+        + "\u4c91\u5192\023\001\u0342\u0a43\u0d47\u1385\u1d95\u1e89\u1ec6\u1f0b"
+        + "\u1f54\u30cd\u3796\u37d4\u408f\u424e\u4798\u4c91\u4cd4\u5192\022\001"
+        + "\u0302\u0a43\u0d47\u0d94\u13c5\u1dd5\u1ec9\u1f06\u1f4b\u1f94\u324d\u37d6"
+        + "\u420f\u424e\u4758\u4cd1\u51d2\021\001\u0282\u0a43\u0d47\u1385\u1d95"
+        + "\u1e89\u1ec6\u1f0b\u31cd\u3796\u418f\u41ca\u420e\u46d8\u4c91\u5192\021"
+        + "\001\u0242\u0a43\u0d47\u1385\u13d4\u1d95\u1e89\u1ec6\u1f0b\u318d\u3796"
+        + "\u414f\u420e\u4698\u4c91\u5192\021\001\124\u0202\u0a43\u0d47\u1385"
+        + "\u1d95\u1e89\u1ec6\u1f0b\u314d\u3796\u410f\u424e\u4658\u4c91\u5192\025"
+        + "\001\u01c2\u0a43\u0a94\u0d47\u13c5\u1dd5\u1ec9\u1f06\u1f4b\u1f94\u310d"
+        + "\u37d6\u3814\u40cf\u424e\u4294\u47d8\u4cd1\u4d14\u51d2\023\001\u0302"
+        + "\u0a43\u0d47\u0d94\u1385\u1d95\u1e89\u1ec6\u1f0b\u1f54\u324d\u3796\u404f"
+        + "\u420e\u4758\u4c91\u5192\u51d4\021\001\u02c2\u0a43\u0d47\u1385\u1d95"
+        + "\u1e89\u1ec6\u1f0b\u1f54\u320d\u3796\u41cf\u420e\u4718\u4c91\u5192\020"
+        + "\001\u0282\u0a43\u0d47\u1385\u1d95\u1e89\u1ec6\u1f0b\u31cd\u3796\u418f"
+        + "\u424e\u46d8\u4c91\u5192\020\001\u0242\u0a43\u0d47\u13c5\u1dd5\u1ec9"
+        + "\u1f06\u1f4b\u318d\u37d6\u414f\u424e\u4698\u4cd1\u51d2\022\001\u01c2"
+        + "\u0a43\u0a94\u0d47\u1385\u1d95\u1dd4\u1e89\u1ec6\u1f0b\u310d\u3796\u40cf"
+        + "\u420e\u4618\u4c91\u5192\024\001\u0342\u0a43\u0d47\u1385\u1d95\u1e89"
+        + "\u1ec6\u1f0b\u1f54\u30cd\u3796\u37d4\u408f\u420e\u4254\u4798\u4c91\u4cd4"
+        + "\u5192\023\001\u0302\u0a43\u0d47\u0d94\u1385\u1d95\u1e89\u1ec6\u1f0b"
+        + "\u1f54\u324d\u3796\u404f\u424e\u4758\u4c91\u5192\u51d4\021\001\u02c2"
+        + "\u0a43\u0d47\u13c5\u1dd5\u1ec9\u1f06\u1f4b\u320d\u37d6\u41cf\u420a\u424e"
+        + "\u4718\u4cd1\u51d2\021\001\u0242\u0a43\u0d47\u1385\u13d4\u1d95\u1e89"
+        + "\u1ec6\u1f0b\u318d\u3796\u414f\u420e\u4698\u4c91\u5192\021\001\124"
+        + "\u0202\u0a43\u0d47\u1385\u1d95\u1e89\u1ec6\u1f0b\u314d\u3796\u410f\u420e"
+        + "\u4658\u4c91\u5192\023\001\u01c2\u0a43\u0a94\u0d47\u1385\u1d95\u1dd4"
+        + "\u1e89\u1ec6\u1f0b\u310d\u3796\u40cf\u424e\u4294\u4618\u4c91\u5192\022"
+        + "\001\u0342\u0a43\u0d47\u1385\u1dd5\u1ec9\u1f06\u1f4b\u1f94\u328d\u37d6"
+        + "\u408f\u424e\u4798\u4cd1\u51d2\u5214\021\001\u02c2\u0a43\u0d47\u1385"
+        + "\u1d95\u1e89\u1ec6\u1f0b\u1f54\u320d\u3796\u41cf\u420e\u4718\u4c91\u5192"
+        + "\021\001\u0282\u0a43\u0d47\u1385\u1d95\u1e89\u1ec6\u1f0b\u31cd\u3796"
+        + "\u418f\u41ca\u420e\u46d8\u4c91\u5192\021\001\u0242\u0a43\u0d47\u1385"
+        + "\u13d4\u1d95\u1e89\u1ec6\u1f0b\u318d\u3796\u414f\u424e\u4698\u4c91\u5192"
+        + "\022\001\124\u0202\u0a43\u0d47\u1385\u1dd5\u1e14\u1ec9\u1f06\u1f4b"
+        + "\u314d\u37d6\u410f\u424e\u4658\u4cd1\u51d2\024\001\u0342\u0a43\u0d47"
+        + "\u1385\u1d95\u1e89\u1ec6\u1f0b\u1f54\u30cd\u3796\u37d4\u408f\u420e\u4254"
+        + "\u4798\u4c91\u4cd4\u5192\023\001\u0302\u0a43\u0d47\u0d94\u1385\u1d95"
+        + "\u1e89\u1ec6\u1f0b\u1f54\u324d\u3796\u404f\u420e\u4758\u4c91\u5192\u51d4"
+        + "\022\001\u02c2\u0a43\u0d47\u1385\u1d95\u1e89\u1ec6\u1f0b\u1f54\u320d"
+        + "\u3796\u41cf\u420a\u424e\u4718\u4c91\u5192\020\001\u0282\u0a43\u0d47"
+        + "\u1385\u1d95\u1e89\u1ec6\u1f0b\u31cd\u3796\u418f\u424e\u46d8\u4c91\u5192"
+        + "\020\001\u0242\u0a43\u0d47\u13c5\u1d95\u1e89\u1ec6\u1f0b\u318d\u3796"
+        + "\u414f\u424e\u4698\u4c91\u5192\021\001\124\u0202\u0a43\u0d47\u13c5"
+        + "\u1d95\u1e89\u1ec6\u1f0b\u314d\u3796\u410f\u424e\u4658\u4c91\u5192\022"
+        + "\001\u01c2\u0a43\u0a94\u0d47\u13c5\u1d95\u1dd4\u1e89\u1ec6\u1f0b\u310d"
+        + "\u3796\u40cf\u428e\u4618\u4c91\u5192\022\001\u0342\u0a43\u0d47\u13c5"
+        + "\u1dd5\u1ec9\u1f06\u1f4b\u1f94\u328d\u37d6\u408f\u428e\u4798\u4cd1\u51d2"
+        + "\u5214\022\001\u02c2\u0a43\u0d47\u13c5\u1d95\u1e89\u1ec6\u1f0b\u1f54"
+        + "\u320d\u3796\u41cf\u420a\u424e\u4718\u4c91\u5192\021\001\u0282\u0a43"
+        + "\u0d47\u13c5\u1414\u1d95\u1e89\u1ec6\u1f0b\u31cd\u3796\u418f\u424e\u46d8"
+        + "\u4c91\u5192\020\001\u0242\u0a43\u0d47\u13c5\u1d95\u1e89\u1ec6\u1f0b"
+        + "\u318d\u3796\u414f\u428e\u4698\u4c91\u5192\023\001\124\u0202\u0a43"
+        + "\u0d47\u13c5\u1dd5\u1e14\u1ec9\u1f06\u1f4b\u314d\u37d6\u410f\u428e\u42d4"
+        + "\u4658\u4cd1\u51d2\023\001\u0342\u0a43\u0d47\u13c5\u1d95\u1e89\u1ec6"
+        + "\u1f0b\u1f54\u30cd\u3796\u37d4\u408f\u424e\u4798\u4c91\u4cd4\u5192\023"
+        + "\001\u0302\u0a43\u0d47\u0d94\u13c5\u1d95\u1e89\u1ec6\u1f0b\u1f54\u324d"
+        + "\u3796\u404f\u424e\u4758\u4c91\u5192\u51d4\022\001\u02c2\u0a43\u0d47"
+        + "\u13c5\u1d95\u1e89\u1ec6\u1f0b\u1f54\u320d\u3796\u41cf\u420a\u424e\u4718"
+        + "\u4c91\u5192\021\001\u0282\u0a43\u0d47\u13c5\u1414\u1dd5\u1ec9\u1f06"
+        + "\u1f4b\u31cd\u37d6\u418f\u428e\u46d8\u4cd1\u51d2\021\001\124\u0202"
+        + "\u0a43\u0d47\u13c5\u1d95\u1e89\u1ec6\u1f0b\u314d\u3796\u410f\u424e\u4658"
+        + "\u4c91\u5192\023\001\u01c2\u0a43\u0a94\u0d47\u13c5\u1d95\u1dd4\u1e89"
+        + "\u1ec6\u1f0b\u310d\u3796\u40cf\u424e\u4294\u4618\u4c91\u5192\023\001"
+        + "\u0342\u0a43\u0d47\u13c5\u1d95\u1e89\u1ec6\u1f0b\u1f54\u30cd\u3796\u37d4"
+        + "\u408f\u424e\u4798\u4c91\u4cd4\u5192\023\001\u0302\u0a43\u0d47\u0d94"
+        + "\u13c5\u1dd5\u1ec9\u1f06\u1f4b\u1f94\u324d\u37d6\u420f\u424a\u428e\u4758"
+        + "\u4cd1\u51d2\021\001\u0282\u0a43\u0d47\u13c5\u1414\u1d95\u1e89\u1ec6"
+        + "\u1f0b\u31cd\u3796\u418f\u424e\u46d8\u4c91\u5192\020\001\u0242\u0a43"
+        + "\u0d47\u13c5\u1d95\u1e89\u1ec6\u1f0b\u318d\u3796\u414f\u424e\u4698\u4c91"
+        + "\u5192\021\001\124\u0202\u0a43\u0d47\u13c5\u1d95\u1e89\u1ec6\u1f0b"
+        + "\u314d\u3796\u410f\u424e\u4658\u4c91\u5192\024\001\u01c2\u0a43\u0a94"
+        + "\u0d47\u13c5\u1dd5\u1ec9\u1f06\u1f4b\u1f94\u310d\u37d6\u3814\u40cf\u428e"
+        + "\u47d8\u4cd1\u4d14\u51d2\023\001\u0302\u0a43\u0d47\u0d94\u13c5\u1d95"
+        + "\u1e89\u1ec6\u1f0b\u1f54\u324d\u3796\u404f\u424e\u4758\u4c91\u5192\u51d4"
+        + "\022\001\u02c2\u0a43\u0d47\u13c5\u1d95\u1e89\u1ec6\u1f0b\u1f54\u320d"
+        + "\u3796\u41cf\u420a\u424e\u4718\u4c91\u5192\021\001\u0282\u0a43\u0d47"
+        + "\u13c5\u1414\u1d95\u1e89\u1ec6\u1f0b\u31cd\u3796\u418f\u424e\u46d8\u4c91"
+        + "\u5192\020\001\u0242\u0a43\u0d47\u13c5\u1dd5\u1ec9\u1f06\u1f4b\u318d"
+        + "\u37d6\u414f\u428e\u4698\u4cd1\u51d2\023\001\u01c2\u0a43\u0a94\u0d47"
+        + "\u1385\u1d95\u1dd4\u1e89\u1ec6\u1f0b\u310d\u3796\u40cf\u424e\u4294\u4618"
+        + "\u4c91\u5192\023\001\u0342\u0a43\u0d47\u13c5\u1d95\u1e89\u1ec6\u1f0b"
+        + "\u1f54\u30cd\u3796\u37d4\u408f\u424e\u4798\u4c91\u4cd4\u5192\023\001"
+        + "\u0302\u0a43\u0d47\u0d94\u13c5\u1d95\u1e89\u1ec6\u1f0b\u1f54\u324d\u3796"
+        + "\u404f\u424e\u4758\u4c91\u5192\u51d4\020\001\u02c2\u0a43\u0d47\u13c5"
+        + "\u1dd5\u1ec9\u1f06\u1f4b\u320d\u37d6\u41cf\u428e\u4718\u4cd1\u51d2\021"
+        + "\001\u0242\u0a43\u0d47\u1385\u13d4\u1d95\u1e89\u1ec6\u1f0b\u318d\u3796"
+        + "\u414f\u424e\u4698\u4c91\u5192\021\001\124\u0202\u0a43\u0d47\u13c5"
+        + "\u1d95\u1e89\u1ec6\u1f0b\u314d\u3796\u410f\u424e\u4658\u4c91\u5192\023"
+        + "\001\u01c2\u0a43\u0a94\u0d47\u13c5\u1d95\u1dd4\u1e89\u1ec6\u1f0b\u310d"
+        + "\u3796\u40cf\u424e\u4294\u4618\u4c91\u5192\022\001\u0342\u0a43\u0d47"
+        + "\u13c5\u1dd5\u1ec9\u1f06\u1f4b\u1f94\u328d\u37d6\u408f\u428e\u4798\u4cd1"
+        + "\u51d2\u5214\022\001\u02c2\u0a43\u0d47\u1385\u1d95\u1e89\u1ec6\u1f0b"
+        + "\u1f54\u320d\u3796\u41cf\u420a\u424e\u4718\u4c91\u5192\021\001\u0282"
+        + "\u0a43\u0d47\u13c5\u1414\u1d95\u1e89\u1ec6\u1f0b\u31cd\u3796\u418f\u424e"
+        + "\u46d8\u4c91\u5192\020\001\u0242\u0a43\u0d47\u13c5\u1d95\u1e89\u1ec6"
+        + "\u1f0b\u318d\u3796\u414f\u424e\u4698\u4c91\u5192\023\001\124\u0202"
+        + "\u0a43\u0d47\u13c5\u1dd5\u1e14\u1ec9\u1f06\u1f4b\u314d\u37d6\u410f\u428e"
+        + "\u42d4\u4658\u4cd1\u51d2\023\001\u0342\u0a43\u0d47\u1385\u1d95\u1e89"
+        + "\u1ec6\u1f0b\u1f54\u30cd\u3796\u37d4\u408f\u424e\u4798\u4c91\u4cd4\u5192"
+        + "\023\001\u0302\u0a43\u0d47\u0d94\u13c5\u1d95\u1e89\u1ec6\u1f0b\u1f54"
+        + "\u324d\u3796\u404f\u424e\u4758\u4c91\u5192\u51d4\022\001\u02c2\u0a43"
+        + "\u0d47\u13c5\u1d95\u1e89\u1ec6\u1f0b\u1f54\u320d\u3796\u41cf\u420a\u424e"
+        + "\u4718\u4c91\u5192\021\001\u0282\u0a43\u0d47\u13c5\u1414\u1dd5\u1ec9"
+        + "\u1f06\u1f4b\u31cd\u37d6\u418f\u424e\u46d8\u4cd1\u51d2\021\001\124"
+        + "\u0202\u0a43\u0d47\u1385\u1d95\u1e89\u1ec6\u1f0b\u314d\u3796\u410f\u424e"
+        + "\u4658\u4c91\u5192\023\001\u01c2\u0a43\u0a94\u0d47\u13c5\u1d95\u1dd4"
+        + "\u1e89\u1ec6\u1f0b\u310d\u3796\u40cf\u424e\u4294\u4618\u4c91\u5192\023"
+        + "\001\u0342\u0a43\u0d47\u13c5\u1d95\u1e89\u1ec6\u1f0b\u1f54\u30cd\u3796"
+        + "\u37d4\u408f\u424e\u4798\u4c91\u4cd4\u5192\022\001\u0302\u0a43\u0d47"
+        + "\u0d94\u13c5\u1dd5\u1ec9\u1f06\u1f4b\u1f94\u324d\u37d6\u420f\u424e\u4758"
+        + "\u4cd1\u51d2\020\001\u0282\u0a43\u0d47\u1385\u1d95\u1e89\u1ec6\u1f0b"
+        + "\u31cd\u3796\u418f\u424e\u46d8\u4c91\u5192\020\001\u0242\u0a43\u0d47"
+        + "\u13c5\u1d95\u1e89\u1ec6\u1f0b\u318d\u3796\u414f\u424e\u4698\u4c91\u5192"
+        + "\021\001\124\u0202\u0a43\u0d47\u13c5\u1d95\u1e89\u1ec6\u1f0b\u314d"
+        + "\u3796\u410f\u424e\u4658\u4c91\u5192\025\001\u01c2\u0a43\u0a94\u0d47"
+        + "\u13c5\u1dd5\u1ec9\u1f06\u1f4b\u1f94\u310d\u37d6\u3814\u40cf\u424e\u4294"
+        + "\u47d8\u4cd1\u4d14\u51d2\023\001\u0302\u0a43\u0d47\u0d94\u1385\u1d95"
+        + "\u1e89\u1ec6\u1f0b\u1f54\u324d\u3796\u404f\u424e\u4758\u4c91\u5192\u51d4"
+        + "\022\001\u02c2\u0a43\u0d47\u13c5\u1d95\u1e89\u1ec6\u1f0b\u1f54\u320d"
+        + "\u3796\u41cf\u420a\u424e\u4718\u4c91\u5192";
+}
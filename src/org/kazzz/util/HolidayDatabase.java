@@ -0,0 +1,300 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.util;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * バイナリ形式の祝日データベースを提供します
+ * <pre>
+ *  ファイルをメモリマップして参照するので、起動は即時で、複数のプロセスで
+ *  ページを共有できます。参照はO(1)で、オブジェクトを生成しません。
+ *  法改正の際はファイルを差し替えるだけで済みます。
+ *
+ *  書式 (ビッグエンディアン):
+ *   ヘッダ      "KHDB"(4) 書式バージョン(2) 最初の年(2) 年数(2) 祝日名数(2) データバージョン(4)
+ *   年オフセット 年毎の日レコードの開始位置(4 x 年数)
+ *   祝日名      祝日ID順に UTF-8のバイト数(2) + UTF-8(祝日ID 0は空文字)
+ *   日レコード   年毎に1日1バイトの祝日ID(365又は366)
+ * </pre>
+ * @author Kazzz.
+ * @since JDK1.5 Android Level 4
+ *
+ */
+public final class HolidayDatabase {
+    /** 書式バージョン */
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int MAGIC = 0x4b484442; // "KHDB"
+    private static final int HEADER_SIZE = 16;
+
+    private final ByteBuffer buffer;
+    private final int formatVersion;
+    private final int firstYear;
+    private final int lastYear;
+    private final int dataVersion;
+    private final String[] names;
+
+    /**
+     * コンストラクタ
+     * @param buffer データベースの内容をセット
+     * @throws IOException 書式が不正な場合
+     */
+    private HolidayDatabase(ByteBuffer buffer) throws IOException {
+        if ( buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC ) {
+            throw new IOException("not a holiday database");
+        }
+        this.buffer = buffer;
+        this.formatVersion = buffer.getShort(4) & 0xffff;
+        if ( this.formatVersion > FORMAT_VERSION ) {
+            throw new IOException("unsupported format version: " + this.formatVersion);
+        }
+        this.firstYear = buffer.getShort(6) & 0xffff;
+        this.lastYear = this.firstYear + ( buffer.getShort(8) & 0xffff ) - 1;
+        this.names = new String[buffer.getShort(10) & 0xffff];
+        this.dataVersion = buffer.getInt(12);
+
+        //年オフセット、祝日名が収まらない場合は途中で読み出さずに不正とする
+        int capacity = buffer.capacity();
+        int offset = HEADER_SIZE + ( this.lastYear - this.firstYear + 1 ) * 4;
+        if ( offset > capacity ) {
+            throw new IOException("truncated holiday database");
+        }
+        //祝日名はオープン時に展開しておく
+        for ( int i = 0; i < this.names.length; i++ ) {
+            if ( offset + 2 > capacity ) {
+                throw new IOException("truncated holiday database");
+            }
+            int length = buffer.getShort(offset) & 0xffff;
+            if ( offset + 2 + length > capacity ) {
+                throw new IOException("truncated holiday database");
+            }
+            byte[] utf8 = new byte[length];
+            for ( int j = 0; j < length; j++ ) {
+                utf8[j] = buffer.get(offset + 2 + j);
+            }
+            this.names[i] = new String(utf8, "UTF-8");
+            offset += 2 + length;
+        }
+        for ( int year = this.firstYear; year <= this.lastYear; year++ ) {
+            int start = this.getYearOffset(year);
+            int end = start + DateUtil.lengthOfYear(year);
+            if ( start < offset || start > capacity - DateUtil.lengthOfYear(year) ) {
+                throw new IOException("truncated holiday database: " + year);
+            }
+            for ( int i = start; i < end; i++ ) {
+                if ( ( buffer.get(i) & 0xff ) >= this.names.length ) {
+                    throw new IOException("undefined holiday id: " + year);
+                }
+            }
+        }
+    }
+    /**
+     * データベースファイルをメモリマップして開きます
+     * @param file データベースファイルをセット
+     * @return HolidayDatabase データベースが戻ります
+     * @throws IOException 読み込みに失敗した場合、又は書式が不正な場合
+     */
+    public static HolidayDatabase open(File file) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = raf.getChannel();
+            //マップはチャネルを閉じた後も有効
+            return new HolidayDatabase(
+                    channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } finally {
+            raf.close();
+        }
+    }
+    /**
+     * メモリ上のデータからデータベースを構成します
+     * @param buffer データベースの内容をセット
+     * @return HolidayDatabase データベースが戻ります
+     * @throws IOException 書式が不正な場合
+     */
+    public static HolidayDatabase wrap(ByteBuffer buffer) throws IOException {
+        return new HolidayDatabase(buffer.duplicate());
+    }
+    /**
+     * 現在の祝日テーブルをデータベースの書式で書き出します
+     * @param out 出力先をセット
+     * @param dataVersion データバージョン(改正日のyyyymmdd等)をセット
+     * @throws IOException 書き出しに失敗した場合
+     */
+    public static void write(OutputStream out, int dataVersion) throws IOException {
+        int firstYear = HolidayUtil.MIN_YEAR;
+        int yearCount = HolidayUtil.MAX_YEAR - HolidayUtil.MIN_YEAR + 1;
+        int nameCount = HolidayUtil.getHolidayNameCount();
+        byte[][] names = new byte[nameCount][];
+        int offset = HEADER_SIZE + yearCount * 4;
+        for ( int i = 0; i < nameCount; i++ ) {
+            names[i] = HolidayDatabase.toUtf8(HolidayUtil.getHolidayNameById(i));
+            offset += 2 + names[i].length;
+        }
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeShort(FORMAT_VERSION);
+        data.writeShort(firstYear);
+        data.writeShort(yearCount);
+        data.writeShort(nameCount);
+        data.writeInt(dataVersion);
+        for ( int i = 0; i < yearCount; i++ ) {
+            data.writeInt(offset);
+            offset += DateUtil.lengthOfYear(firstYear + i);
+        }
+        for ( int i = 0; i < nameCount; i++ ) {
+            data.writeShort(names[i].length);
+            data.write(names[i]);
+        }
+        for ( int i = 0; i < yearCount; i++ ) {
+            HolidayYear table = HolidayUtil.getYearTable(firstYear + i);
+            for ( int d = 0; d < table.length(); d++ ) {
+                data.writeByte(table.getId(d));
+            }
+        }
+        data.flush();
+    }
+    /**
+     * 文字列をUTF-8に変換します
+     * @param s 文字列をセット
+     * @return byte[] UTF-8のバイト列が戻ります
+     */
+    private static byte[] toUtf8(String s) {
+        try {
+            return s.getBytes("UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e.toString());
+        }
+    }
+    /**
+     * 書式バージョンを取得します
+     * @return int 書式バージョンが戻ります
+     */
+    public int getFormatVersion() {
+        return this.formatVersion;
+    }
+    /**
+     * データバージョンを取得します
+     * @return int データバージョンが戻ります
+     */
+    public int getDataVersion() {
+        return this.dataVersion;
+    }
+    /**
+     * 収録している最初の年を取得します
+     * @return int 年が戻ります
+     */
+    public int getFirstYear() {
+        return this.firstYear;
+    }
+    /**
+     * 収録している最後の年を取得します
+     * @return int 年が戻ります
+     */
+    public int getLastYear() {
+        return this.lastYear;
+    }
+    /**
+     * 年が収録されているか否かを判定します
+     * @param year 年をセット
+     * @return boolean 収録されている場合trueが戻ります
+     */
+    public boolean contains(int year) {
+        return year >= this.firstYear && year <= this.lastYear;
+    }
+    /**
+     * 祝日名の数(祝日IDの上限 + 1)を取得します
+     * @return int 祝日名の数が戻ります
+     */
+    public int getHolidayNameCount() {
+        return this.names.length;
+    }
+    /**
+     * 祝日IDに対応する祭日名を取得します
+     * @param holidayId 祝日IDをセット
+     * @return String 祭日名が戻ります
+     */
+    public String getHolidayName(int holidayId) {
+        return this.names[holidayId];
+    }
+    /**
+     * 祝日IDを取得します
+     * @param year 年をセット
+     * @param month 月(1～12)をセット
+     * @param day 日をセット
+     * @return int 祝日IDが戻ります(祭日では無い場合、0が戻ります)
+     * @throws IllegalArgumentException 収録されていない年、又は存在しない日付の場合
+     */
+    public int getHolidayId(int year, int month, int day) {
+        if ( !DateUtil.isValidDate(year, month, day) ) {
+            throw new IllegalArgumentException(
+                    "invalid date: " + year + "/" + month + "/" + day);
+        }
+        return this.getId(year, DateUtil.dayOfYear(year, month, day) - 1);
+    }
+    /**
+     * 祝日IDを取得します
+     * @param epochDay 1970/1/1を0とした通算日をセット
+     * @return int 祝日IDが戻ります(祭日では無い場合、0が戻ります)
+     * @throws IllegalArgumentException 収録されていない年の場合
+     */
+    public int getHolidayId(int epochDay) {
+        int year = DateUtil.getYear(epochDay);
+        return this.getId(year, epochDay - DateUtil.toEpochDay(year, 1, 1));
+    }
+    /**
+     * 祝日IDを取得します
+     * @param year 年をセット
+     * @param dayOfYear 通日(1月1日 = 0)をセット
+     * @return int 祝日IDが戻ります
+     * @throws IllegalArgumentException 収録されていない年、又は年の範囲外の通日の場合
+     */
+    int getId(int year, int dayOfYear) {
+        if ( !this.contains(year) ) {
+            throw new IllegalArgumentException("out of range: " + year);
+        }
+        if ( dayOfYear < 0 || dayOfYear >= DateUtil.lengthOfYear(year) ) {
+            throw new IllegalArgumentException(
+                    "invalid day of year: " + year + "/" + dayOfYear);
+        }
+        return this.buffer.get(this.getYearOffset(year) + dayOfYear) & 0xff;
+    }
+    /**
+     * 1年分の祝日テーブルを展開します
+     * @param year 年をセット
+     * @return HolidayYear 祝日テーブルが戻ります
+     */
+    HolidayYear toYearTable(int year) {
+        byte[] ids = new byte[DateUtil.lengthOfYear(year)];
+        int offset = this.getYearOffset(year);
+        for ( int i = 0; i < ids.length; i++ ) {
+            ids[i] = this.buffer.get(offset + i);
+        }
+        return new HolidayYear(year, ids);
+    }
+    /**
+     * 年の日レコードの開始位置を取得します
+     * @param year 年をセット
+     * @return int 開始位置が戻ります
+     */
+    private int getYearOffset(int year) {
+        return this.buffer.getInt(HEADER_SIZE + ( year - this.firstYear ) * 4);
+    }
+}
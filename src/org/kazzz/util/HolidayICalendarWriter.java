@@ -0,0 +1,375 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Locale;
+
+/**
+ * 祝日をiCalendar形式(RFC 5545)で書き出す機能を提供します
+ * <pre>
+ *  期間内の祝日を年毎の祝日テーブルの索引から順に取り出し、
+ *  1件ずつVEVENT(終日の予定)としてWriterに書き出します。
+ *  日毎の判定は行わず、期間全体の一覧も作らないので、
+ *  書き出す期間の長さに関わらず使用するメモリは一定です。
+ *  行末はCRLF、75オクテット(UTF-8)を超える行は折り返し、
+ *  テキストの「\」「;」「,」改行はエスケープします。
+ * </pre>
+ * @author Kazzz.
+ * @since JDK1.5 Android Level 4
+ *
+ */
+public class HolidayICalendarWriter {
+    /** 1行の最大オクテット数(CRLFを除く) */
+    public static final int MAX_LINE_OCTETS = 75;
+    // Writerに渡すまで溜めておく文字数
+    private static final int FLUSH_SIZE = 8192;
+    private static final String CRLF = "\r\n";
+
+    protected final Writer writer;
+    protected final HolidayCalendar holidays;
+    protected final Locale locale;
+    protected String productId = "-//Kazzz//HolidayUtil//JA";
+    protected String calendarName;
+    protected String uidDomain = "holiday.kazzz.org";
+    protected long timestamp = System.currentTimeMillis();
+
+    private final StringBuilder line = new StringBuilder(128);
+    private final StringBuilder out = new StringBuilder(FLUSH_SIZE + 256);
+    private char[] chars = new char[FLUSH_SIZE + 256];
+    private String dtstamp;
+
+    /**
+     * コンストラクタ (国民の祝日を日本語の祭日名で書き出す)
+     * @param writer 書き出し先をセット
+     */
+    public HolidayICalendarWriter(Writer writer) {
+        this(writer, HolidayCalendar.getDefault(), Locale.JAPANESE);
+    }
+    /**
+     * コンストラクタ
+     * @param writer 書き出し先をセット
+     * @param holidays 書き出す祝日のカレンダをセット
+     * @param locale 祭日名のロケールをセット
+     */
+    public HolidayICalendarWriter(Writer writer, HolidayCalendar holidays, Locale locale) {
+        if ( writer == null ) {
+            throw new IllegalArgumentException("writer is null");
+        }
+        if ( holidays == null ) {
+            throw new IllegalArgumentException("holidays is null");
+        }
+        this.writer = writer;
+        this.holidays = holidays;
+        this.locale = locale != null ? locale : Locale.JAPANESE;
+    }
+    /**
+     * コンストラクタ (チャネルにUTF-8で書き出す)
+     * @param channel 書き出し先をセット
+     * @param holidays 書き出す祝日のカレンダをセット
+     * @param locale 祭日名のロケールをセット
+     */
+    public HolidayICalendarWriter(WritableByteChannel channel
+            , HolidayCalendar holidays, Locale locale) {
+        this(Channels.newWriter(channel, "UTF-8"), holidays, locale);
+    }
+    /**
+     * productIdを取得します
+     * @return String productId(PRODID)が戻ります
+     */
+    public String getProductId() {
+        return this.productId;
+    }
+    /**
+     * productIdを設定します
+     * @param productId productId(PRODID)をセット
+     */
+    public void setProductId(String productId) {
+        this.productId = productId;
+    }
+    /**
+     * calendarNameを取得します
+     * @return String calendarName(X-WR-CALNAME)が戻ります
+     */
+    public String getCalendarName() {
+        return this.calendarName;
+    }
+    /**
+     * calendarNameを設定します
+     * @param calendarName calendarName(X-WR-CALNAME)をセット(nullの場合は書き出さない)
+     */
+    public void setCalendarName(String calendarName) {
+        this.calendarName = calendarName;
+    }
+    /**
+     * uidDomainを取得します
+     * @return String uidDomainが戻ります
+     */
+    public String getUidDomain() {
+        return this.uidDomain;
+    }
+    /**
+     * uidDomainを設定します
+     * <pre>
+     *  UIDは「yyyymmdd-祝日ID@uidDomain」となり、同じ祝日は何度書き出しても同じUIDになります。
+     * </pre>
+     * @param uidDomain uidDomainをセット
+     */
+    public void setUidDomain(String uidDomain) {
+        this.uidDomain = uidDomain;
+    }
+    /**
+     * timestampを取得します
+     * @return long timestamp(DTSTAMP)が戻ります
+     */
+    public long getTimestamp() {
+        return this.timestamp;
+    }
+    /**
+     * timestampを設定します
+     * @param timestamp timestamp(DTSTAMP、エポックミリ秒)をセット
+     */
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+    /**
+     * 年の範囲の祝日を書き出します
+     * @param fromYear 開始年をセット
+     * @param toYear 終了年(この年を含む)をセット
+     * @return int 書き出した祝日の件数が戻ります
+     * @throws IOException 書き出しに失敗した場合
+     */
+    public int writeYears(int fromYear, int toYear) throws IOException {
+        return this.write(DateUtil.toEpochDay(fromYear, 1, 1), DateUtil.toEpochDay(toYear, 12, 31));
+    }
+    /**
+     * 期間内の祝日を1つのVCALENDARとして書き出します
+     * <pre>
+     *  書き出し後にWriterをflushします。(closeはしません)
+     * </pre>
+     * @param fromEpochDay 期間の開始日(通算日)をセット
+     * @param toEpochDay 期間の終了日(通算日、この日を含む)をセット
+     * @return int 書き出した祝日の件数が戻ります
+     * @throws IOException 書き出しに失敗した場合
+     */
+    public int write(int fromEpochDay, int toEpochDay) throws IOException {
+        this.dtstamp = HolidayICalendarWriter.formatTimestamp(this.timestamp);
+        this.line.setLength(0);
+        this.out.setLength(0);
+
+        this.property("BEGIN", "VCALENDAR");
+        this.property("VERSION", "2.0");
+        this.line.append("PRODID:");
+        this.appendText(this.productId);
+        this.endLine();
+        this.property("CALSCALE", "GREGORIAN");
+        this.property("METHOD", "PUBLISH");
+        if ( this.calendarName != null ) {
+            this.line.append("X-WR-CALNAME:");
+            this.appendText(this.calendarName);
+            this.endLine();
+        }
+        int count = 0;
+        int from = Math.max(fromEpochDay, DateUtil.toEpochDay(HolidayUtil.MIN_YEAR, 1, 1));
+        if ( from <= toEpochDay ) {
+            for ( int year = DateUtil.getYear(from), toYear = DateUtil.getYear(toEpochDay)
+                    ; year <= toYear; year++ ) {
+                HolidayYear table = this.holidays.getYearTable(year);
+                int first = table.getFirstEpochDay();
+                //索引を二分探索で位置付けて、期間内の祝日だけを取り出す
+                for ( int i = table.indexOf(Math.max(from - first, 0))
+                        ; i < table.getHolidayCount(); i++ ) {
+                    int dayOfYear = table.getHolidayDay(i);
+                    if ( first + dayOfYear > toEpochDay ) break;
+                    this.writeEvent(first + dayOfYear, table.getId(dayOfYear));
+                    count++;
+                }
+            }
+        }
+        this.property("END", "VCALENDAR");
+        this.flushBuffer();
+        this.writer.flush();
+        return count;
+    }
+    /**
+     * 1件の祝日をVEVENTとして書き出します
+     * @param epochDay 祝日の通算日をセット
+     * @param holidayId 祝日IDをセット
+     * @throws IOException 書き出しに失敗した場合
+     */
+    protected void writeEvent(int epochDay, int holidayId) throws IOException {
+        int ymd = DateUtil.toYmd(epochDay);
+        this.property("BEGIN", "VEVENT");
+        this.line.append("UID:");
+        HolidayICalendarWriter.appendDate(this.line, ymd);
+        this.line.append('-').append(holidayId).append('@');
+        this.appendText(this.uidDomain);
+        this.endLine();
+        this.property("DTSTAMP", this.dtstamp);
+        this.line.append("DTSTART;VALUE=DATE:");
+        HolidayICalendarWriter.appendDate(this.line, ymd);
+        this.endLine();
+        this.line.append("DTEND;VALUE=DATE:");
+        HolidayICalendarWriter.appendDate(this.line, DateUtil.toYmd(epochDay + 1));
+        this.endLine();
+        this.line.append("SUMMARY:");
+        this.appendText(this.holidays.getHolidayName(holidayId, this.locale));
+        this.endLine();
+        this.property("TRANSP", "TRANSPARENT");
+        this.property("END", "VEVENT");
+    }
+    /**
+     * エスケープ不要な値のプロパティを1行書き出します
+     * @param name プロパティ名をセット
+     * @param value 値をセット
+     * @throws IOException 書き出しに失敗した場合
+     */
+    private void property(String name, String value) throws IOException {
+        this.line.append(name).append(':').append(value);
+        this.endLine();
+    }
+    /**
+     * TEXT型の値をエスケープして行に追加します
+     * @param text 値をセット
+     */
+    private void appendText(String text) {
+        for ( int i = 0; i < text.length(); i++ ) {
+            char c = text.charAt(i);
+            switch ( c ) {
+            case '\\':
+            case ';':
+            case ',':
+                this.line.append('\\').append(c);
+                break;
+            case '\n':
+                this.line.append("\\n");
+                break;
+            case '\r':
+                break;
+            default:
+                this.line.append(c);
+            }
+        }
+    }
+    /**
+     * 行を75オクテット毎に折り返してバッファに移します
+     * <pre>
+     *  折り返した行は空白1文字で始めます。UTF-8の1文字(サロゲートペアを含む)は分割しません。
+     *  (1文字は最大3オクテットなので、25文字以下の行は数えずに移します)
+     * </pre>
+     * @throws IOException 書き出しに失敗した場合
+     */
+    private void endLine() throws IOException {
+        StringBuilder sb = this.line;
+        if ( sb.length() * 3 <= MAX_LINE_OCTETS
+                || HolidayICalendarWriter.countOctets(sb) <= MAX_LINE_OCTETS ) {
+            this.out.append(sb);
+        } else {
+            int octets = 0;
+            for ( int i = 0; i < sb.length(); i++ ) {
+                char c = sb.charAt(i);
+                int size = HolidayICalendarWriter.octetsOf(c);
+                if ( octets + size > MAX_LINE_OCTETS ) {
+                    this.out.append(CRLF).append(' ');
+                    octets = 1;
+                }
+                this.out.append(c);
+                octets += size;
+            }
+        }
+        this.out.append(CRLF);
+        sb.setLength(0);
+        if ( this.out.length() >= FLUSH_SIZE ) {
+            this.flushBuffer();
+        }
+    }
+    /**
+     * UTF-8でのオクテット数を数えます
+     * @param sb 文字列をセット
+     * @return int オクテット数が戻ります
+     */
+    private static int countOctets(CharSequence sb) {
+        int octets = 0;
+        for ( int i = 0; i < sb.length(); i++ ) {
+            octets += HolidayICalendarWriter.octetsOf(sb.charAt(i));
+        }
+        return octets;
+    }
+    /**
+     * 1文字のUTF-8でのオクテット数を取得します
+     * @param c 文字をセット
+     * @return int オクテット数が戻ります(サロゲートペアは上位で4、下位で0)
+     */
+    private static int octetsOf(char c) {
+        if ( c < 0x80 ) {
+            return 1;
+        } else if ( c < 0x800 ) {
+            return 2;
+        } else if ( Character.isHighSurrogate(c) ) {
+            return 4;
+        } else if ( Character.isLowSurrogate(c) ) {
+            return 0;
+        }
+        return 3;
+    }
+    /**
+     * バッファの内容をWriterに書き出します
+     * @throws IOException 書き出しに失敗した場合
+     */
+    private void flushBuffer() throws IOException {
+        int length = this.out.length();
+        if ( length > this.chars.length ) {
+            this.chars = new char[length];
+        }
+        //Writer.append(CharSequence)は文字列を生成するので、配列を使い回して渡す
+        this.out.getChars(0, length, this.chars, 0);
+        this.writer.write(this.chars, 0, length);
+        this.out.setLength(0);
+    }
+    /**
+     * 日付をDATE型(yyyymmdd)で追加します
+     * @param sb 追加先をセット
+     * @param ymd yyyymmdd形式の整数をセット
+     */
+    private static void appendDate(StringBuilder sb, int ymd) {
+        if ( ymd < 10000000 ) {
+            //4桁に満たない年は0で埋める
+            for ( int n = ymd == 0 ? 1 : ymd; n < 10000000; n *= 10 ) sb.append('0');
+        }
+        sb.append(ymd);
+    }
+    /**
+     * エポックミリ秒をUTCのDATE-TIME型(yyyymmddThhmmssZ)に変換します
+     * @param millis エポックミリ秒をセット
+     * @return String 変換した文字列が戻ります
+     */
+    static String formatTimestamp(long millis) {
+        long seconds = millis / 1000;
+        if ( millis % 1000 < 0 ) seconds--;
+        int epochDay = (int)( seconds / 86400 );
+        int secondOfDay = (int)( seconds % 86400 );
+        if ( secondOfDay < 0 ) {
+            secondOfDay += 86400;
+            epochDay--;
+        }
+        StringBuilder sb = new StringBuilder(16);
+        HolidayICalendarWriter.appendDate(sb, DateUtil.toYmd(epochDay));
+        int hms = secondOfDay / 3600 * 10000 + secondOfDay / 60 % 60 * 100 + secondOfDay % 60;
+        sb.append('T');
+        for ( int n = hms == 0 ? 1 : hms; n < 100000; n *= 10 ) sb.append('0');
+        sb.append(hms).append('Z');
+        return sb.toString();
+    }
+}
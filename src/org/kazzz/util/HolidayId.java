@@ -0,0 +1,209 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.util;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 祝日IDと、ロケール毎の祝日名を定義します
+ * <pre>
+ *  祝日IDは祝日テーブル、生成済み祝日データ、祝日データベースに1バイトで格納されるので、
+ *  既存の値は変更せず、追加する場合は末尾に採番してください。
+ *  祝日名の表はロケール毎に1度だけ決定してキャッシュするので、
+ *  描画の度に祝日名を変換する必要はありません。
+ * </pre>
+ * @author Kazzz.
+ * @since JDK1.5 Android Level 4
+ *
+ */
+public final class HolidayId {
+    private HolidayId() {}
+
+    /** 祝日ではない */
+    public static final int NONE = 0;
+    /** 元日 */
+    public static final int NEW_YEARS_DAY = 1;
+    /** 成人の日 */
+    public static final int COMING_OF_AGE_DAY = 2;
+    /** 建国記念の日 */
+    public static final int NATIONAL_FOUNDATION_DAY = 3;
+    /** 昭和天皇の大喪の礼 */
+    public static final int SHOWA_FUNERAL = 4;
+    /** 春分の日 */
+    public static final int VERNAL_EQUINOX_DAY = 5;
+    /** みどりの日 */
+    public static final int GREENERY_DAY = 6;
+    /** 天皇誕生日 */
+    public static final int EMPERORS_BIRTHDAY = 7;
+    /** 皇太子明仁親王の結婚の儀 */
+    public static final int AKIHITO_WEDDING = 8;
+    /** 憲法記念日 */
+    public static final int CONSTITUTION_DAY = 9;
+    /** 国民の休日 */
+    public static final int CITIZENS_HOLIDAY = 10;
+    /** こどもの日 */
+    public static final int CHILDRENS_DAY = 11;
+    /** 皇太子徳仁親王の結婚の儀 */
+    public static final int NARUHITO_WEDDING = 12;
+    /** 海の日 */
+    public static final int MARINE_DAY = 13;
+    /** 秋分の日 */
+    public static final int AUTUMNAL_EQUINOX_DAY = 14;
+    /** 敬老の日 */
+    public static final int RESPECT_FOR_THE_AGED_DAY = 15;
+    /** 体育の日 */
+    public static final int HEALTH_AND_SPORTS_DAY = 16;
+    /** 文化の日 */
+    public static final int CULTURE_DAY = 17;
+    /** 勤労感謝の日 */
+    public static final int LABOR_THANKSGIVING_DAY = 18;
+    /** 即位礼正殿の儀 */
+    public static final int ENTHRONEMENT_CEREMONY = 19;
+    /** 振替休日 */
+    public static final int SUBSTITUTE_HOLIDAY = 20;
+    /** 昭和の日 (2007～) */
+    public static final int SHOWA_DAY = 21;
+    /** 山の日 (2016～) */
+    public static final int MOUNTAIN_DAY = 22;
+    /** 天皇の即位の日 (2019) */
+    public static final int ENTHRONEMENT_DAY = 23;
+    /** スポーツの日 (2020～) */
+    public static final int SPORTS_DAY = 24;
+    /** 祝日IDの数 */
+    public static final int COUNT = 25;
+
+    // 日本語の祝日名 (添字が祝日ID。従来の判定ロジックと同じ名称)
+    private static final String[] JAPANESE = {
+        "",
+        "元日",
+        "成人の日",
+        "建国記念の日",
+        "昭和天皇の大喪の礼",
+        "春分の日",
+        "みどりの日",
+        "天皇誕生日",
+        "皇太子明仁親王の結婚の儀",
+        "憲法記念日",
+        "国民の休日",
+        "子供の日",
+        "皇太子徳仁親王の結婚の儀",
+        "海の日",
+        "秋分の日",
+        "敬老の日",
+        "体育の日",
+        "文化の日",
+        "勤労感謝の日",
+        "即位礼正殿の儀",
+        "振替休日",
+        "昭和の日",
+        "山の日",
+        "即位の日",
+        "スポーツの日",
+    };
+    // 英語の祝日名 (日本語以外のロケールで使用する)
+    private static final String[] ENGLISH = {
+        "",
+        "New Year's Day",
+        "Coming of Age Day",
+        "National Foundation Day",
+        "Funeral of Emperor Showa",
+        "Vernal Equinox Day",
+        "Greenery Day",
+        "Emperor's Birthday",
+        "Wedding of Crown Prince Akihito",
+        "Constitution Memorial Day",
+        "Citizens' Holiday",
+        "Children's Day",
+        "Wedding of Crown Prince Naruhito",
+        "Marine Day",
+        "Autumnal Equinox Day",
+        "Respect for the Aged Day",
+        "Health and Sports Day",
+        "Culture Day",
+        "Labor Thanksgiving Day",
+        "Enthronement Ceremony",
+        "Substitute Holiday",
+        "Showa Day",
+        "Mountain Day",
+        "Enthronement Day",
+        "Sports Day",
+    };
+    // ロケール毎に決定した祝日名の表
+    private static final ConcurrentHashMap<Locale, String[]> namesByLocale
+        = new ConcurrentHashMap<Locale, String[]>();
+    // 直前に参照されたロケールと祝日名の表 (既定のロケールでの参照を速くする)
+    private static volatile LocaleNames lastNames = new LocaleNames(Locale.JAPANESE, JAPANESE);
+
+    /**
+     * ロケールと祝日名の表の組を保持します
+     */
+    private static final class LocaleNames {
+        final Locale locale;
+        final String[] names;
+        LocaleNames(Locale locale, String[] names) {
+            this.locale = locale;
+            this.names = names;
+        }
+    }
+    /**
+     * 既定のロケールの祝日名を取得します
+     * @param holidayId 祝日IDをセット
+     * @return String 祝日名が戻ります(NONE又は未定義の祝日IDの場合、空文字が戻ります)
+     */
+    public static String getName(int holidayId) {
+        return HolidayId.getName(holidayId, Locale.getDefault());
+    }
+    /**
+     * ロケールに対応した祝日名を取得します
+     * <pre>
+     *  この表に無い祝日ID(祝日データベースで追加されたもの)は、
+     *  データベースの祝日名が戻ります。
+     * </pre>
+     * @param holidayId 祝日IDをセット
+     * @param locale ロケールをセット
+     * @return String 祝日名が戻ります(NONE又は未定義の祝日IDの場合、空文字が戻ります)
+     */
+    public static String getName(int holidayId, Locale locale) {
+        if ( holidayId < 0 || holidayId >= COUNT ) {
+            return HolidayUtil.getHolidayNameById(holidayId);
+        }
+        LocaleNames last = lastNames;
+        if ( !last.locale.equals(locale) ) {
+            last = new LocaleNames(locale, HolidayId.getNames(locale));
+            lastNames = last;
+        }
+        return last.names[holidayId];
+    }
+    /**
+     * 日本語の祝日名を取得します
+     * @param holidayId 祝日ID(0～COUNT-1)をセット
+     * @return String 祝日名が戻ります
+     */
+    static String getJapaneseName(int holidayId) {
+        return JAPANESE[holidayId];
+    }
+    /**
+     * ロケールに対応した祝日名の表を取得します
+     * @param locale ロケールをセット
+     * @return String[] 祝日名の表が戻ります(変更しないこと)
+     */
+    private static String[] getNames(Locale locale) {
+        String[] names = namesByLocale.get(locale);
+        if ( names == null ) {
+            names = Locale.JAPANESE.getLanguage().equals(locale.getLanguage())
+                ? JAPANESE : ENGLISH;
+            namesByLocale.put(locale, names);
+        }
+        return names;
+    }
+}
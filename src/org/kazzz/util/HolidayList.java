@@ -0,0 +1,96 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.util;
+
+/**
+ * 祝日の一覧を提供します
+ * <pre>
+ *  通算日と祝日IDを平行配列で保持します。通算日は昇順に並んでいます。
+ *  HolidayUtil.getHolidaysから取得します。
+ * </pre>
+ * @author Kazzz.
+ * @since JDK1.5 Android Level 4
+ *
+ */
+public final class HolidayList {
+    private final int[] epochDays;
+    private final byte[] holidayIds;
+
+    /**
+     * コンストラクタ
+     * @param epochDays 通算日の配列をセット
+     * @param holidayIds 祝日IDの配列をセット
+     */
+    HolidayList(int[] epochDays, byte[] holidayIds) {
+        this.epochDays = epochDays;
+        this.holidayIds = holidayIds;
+    }
+    /**
+     * 祝日の件数を取得します
+     * @return int 件数が戻ります
+     */
+    public int size() {
+        return this.epochDays.length;
+    }
+    /**
+     * 祝日の通算日を取得します
+     * @param index 添字をセット
+     * @return int 1970/1/1を0とした通算日が戻ります
+     */
+    public int getEpochDay(int index) {
+        return this.epochDays[index];
+    }
+    /**
+     * 祝日の日付を取得します
+     * @param index 添字をセット
+     * @return int yyyymmdd形式の整数が戻ります
+     */
+    public int getYmd(int index) {
+        return DateUtil.toYmd(this.epochDays[index]);
+    }
+    /**
+     * 祝日IDを取得します
+     * @param index 添字をセット
+     * @return int 祝日IDが戻ります
+     */
+    public int getHolidayId(int index) {
+        return this.holidayIds[index] & 0xff;
+    }
+    /**
+     * 祭日名を取得します
+     * @param index 添字をセット
+     * @return String 祭日名が戻ります
+     */
+    public String getHolidayName(int index) {
+        return HolidayUtil.getHolidayNameById(this.holidayIds[index] & 0xff);
+    }
+    /**
+     * 通算日の配列のコピーを取得します
+     * @return int[] 通算日の配列が戻ります
+     */
+    public int[] toEpochDayArray() {
+        int[] result = new int[this.epochDays.length];
+        System.arraycopy(this.epochDays, 0, result, 0, result.length);
+        return result;
+    }
+    /**
+     * 祝日の日付キーの集合を取得します
+     * @return SortedIntSet 日付キー(DateKey)の集合が戻ります
+     */
+    public SortedIntSet toDateKeySet() {
+        int[] keys = new int[this.epochDays.length];
+        for ( int i = 0; i < keys.length; i++ ) {
+            keys[i] = DateKey.fromEpochDay(this.epochDays[i]);
+        }
+        return new SortedIntSet(keys);
+    }
+}
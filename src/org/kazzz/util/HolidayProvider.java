@@ -0,0 +1,53 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.util;
+
+import java.util.Locale;
+
+/**
+ * 祝日の定義を提供するインタフェースです
+ * <pre>
+ *  国の祝日(JapaneseHolidayProvider)の他、会社の休業日等を実装して、
+ *  CompositeHolidayProviderで合成できます。
+ *  参照はHolidayCalendarを通して行い、年毎の結果はそちらでキャッシュされます。
+ *  祝日IDは1～(getHolidayNameCount() - 1)の範囲で、0は祝日では無いことを示します。
+ * </pre>
+ * @author Kazzz.
+ * @since JDK1.5 Android Level 4
+ *
+ */
+public interface HolidayProvider {
+    /**
+     * 1年分の祝日IDを取得します
+     * @param year 年をセット
+     * @return byte[] 通日(1月1日 = 0)を添字とした祝日IDの配列が戻ります(呼び出し側で保持して構いません)
+     */
+    byte[] getHolidayIds(int year);
+    /**
+     * 祝日名の数(祝日IDの上限 + 1)を取得します
+     * @return int 祝日名の数が戻ります
+     */
+    int getHolidayNameCount();
+    /**
+     * 祝日IDに対応する祭日名を取得します
+     * @param holidayId 祝日IDをセット
+     * @return String 祭日名が戻ります(0の場合、空文字が戻ります)
+     */
+    String getHolidayName(int holidayId);
+    /**
+     * 祝日IDに対応する、ロケールに応じた祭日名を取得します
+     * @param holidayId 祝日IDをセット
+     * @param locale ロケールをセット
+     * @return String 祭日名が戻ります(0の場合、空文字が戻ります)
+     */
+    String getHolidayName(int holidayId, Locale locale);
+}
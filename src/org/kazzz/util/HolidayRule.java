@@ -0,0 +1,171 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.util;
+
+/**
+ * 祝日の日付を定める規則を提供します
+ * <pre>
+ *  規則は有効な年の範囲を持ち、その年の祝日の日付を1つ返します。
+ *  規則はHolidayRuleSetに登録し、年毎の祝日テーブルにコンパイルして使用します。
+ *  (振替休日、国民の休日はHolidayRuleSet側で扱います)
+ * </pre>
+ * @author Kazzz.
+ * @since JDK1.5 Android Level 4
+ *
+ */
+public abstract class HolidayRule {
+    /** 有効期間の終わりが無いことを示す年 */
+    public static final int FOREVER = Integer.MAX_VALUE;
+
+    protected final int holidayId;
+    protected final int fromYear;
+    protected final int toYear;
+
+    /**
+     * コンストラクタ
+     * @param holidayId 祝日IDをセット
+     * @param fromYear 有効な最初の年をセット
+     * @param toYear 有効な最後の年をセット
+     */
+    protected HolidayRule(int holidayId, int fromYear, int toYear) {
+        if ( holidayId <= HolidayId.NONE || holidayId > 0xff ) {
+            throw new IllegalArgumentException("invalid holiday id: " + holidayId);
+        }
+        this.holidayId = holidayId;
+        this.fromYear = fromYear;
+        this.toYear = toYear;
+    }
+    /**
+     * holidayIdを取得します
+     * @return int holidayIdが戻ります
+     */
+    public int getHolidayId() {
+        return this.holidayId;
+    }
+    /**
+     * fromYearを取得します
+     * @return int fromYearが戻ります
+     */
+    public int getFromYear() {
+        return this.fromYear;
+    }
+    /**
+     * toYearを取得します
+     * @return int toYearが戻ります
+     */
+    public int getToYear() {
+        return this.toYear;
+    }
+    /**
+     * 規則が有効な年か否かを判定します
+     * @param year 年をセット
+     * @return boolean 有効な場合trueが戻ります
+     */
+    public boolean isEffective(int year) {
+        return year >= this.fromYear && year <= this.toYear;
+    }
+    /**
+     * 対象年の祝日の日付を取得します
+     * @param year 年(有効な範囲内)をセット
+     * @return int 通算日が戻ります(該当が無い場合、HolidayUtil.NOT_FOUNDが戻ります)
+     */
+    public abstract int getEpochDay(int year);
+
+    /**
+     * 月日固定の規則を生成します
+     * @param holidayId 祝日IDをセット
+     * @param month 月をセット
+     * @param day 日をセット
+     * @param fromYear 有効な最初の年をセット
+     * @param toYear 有効な最後の年をセット
+     * @return HolidayRule 規則が戻ります
+     */
+    public static HolidayRule fixed(int holidayId, final int month, final int day
+            , int fromYear, int toYear) {
+        return new HolidayRule(holidayId, fromYear, toYear) {
+            @Override
+            public int getEpochDay(int year) {
+                return DateUtil.toEpochDay(year, month, day);
+            }
+        };
+    }
+    /**
+     * 第n何曜日の規則(ハッピーマンデー等)を生成します
+     * @param holidayId 祝日IDをセット
+     * @param month 月をセット
+     * @param nth 第何週(1～5)かをセット
+     * @param dayOfWeek 曜日(Calendar.SUNDAY～Calendar.SATURDAY)をセット
+     * @param fromYear 有効な最初の年をセット
+     * @param toYear 有効な最後の年をセット
+     * @return HolidayRule 規則が戻ります
+     */
+    public static HolidayRule nthWeekday(int holidayId, final int month, final int nth
+            , final int dayOfWeek, int fromYear, int toYear) {
+        return new HolidayRule(holidayId, fromYear, toYear) {
+            @Override
+            public int getEpochDay(int year) {
+                int first = DateUtil.toEpochDay(year, month, 1);
+                int offset = ( dayOfWeek - DateUtil.dayOfWeek(first) + 7 ) % 7
+                    + ( nth - 1 ) * 7;
+                if ( offset >= DateUtil.lengthOfMonth(year, month) ) {
+                    return HolidayUtil.NOT_FOUND;
+                }
+                return first + offset;
+            }
+        };
+    }
+    /**
+     * 春分の日の規則を生成します
+     * @param holidayId 祝日IDをセット
+     * @param fromYear 有効な最初の年をセット
+     * @param toYear 有効な最後の年をセット
+     * @return HolidayRule 規則が戻ります
+     */
+    public static HolidayRule springEquinox(int holidayId, int fromYear, int toYear) {
+        return new HolidayRule(holidayId, fromYear, toYear) {
+            @Override
+            public int getEpochDay(int year) {
+                int day = EquinoxUtil.getSpringEquinoxDay(year);
+                return day == EquinoxUtil.UNKNOWN
+                    ? HolidayUtil.NOT_FOUND : DateUtil.toEpochDay(year, 3, day);
+            }
+        };
+    }
+    /**
+     * 秋分の日の規則を生成します
+     * @param holidayId 祝日IDをセット
+     * @param fromYear 有効な最初の年をセット
+     * @param toYear 有効な最後の年をセット
+     * @return HolidayRule 規則が戻ります
+     */
+    public static HolidayRule autumnEquinox(int holidayId, int fromYear, int toYear) {
+        return new HolidayRule(holidayId, fromYear, toYear) {
+            @Override
+            public int getEpochDay(int year) {
+                int day = EquinoxUtil.getAutumnEquinoxDay(year);
+                return day == EquinoxUtil.UNKNOWN
+                    ? HolidayUtil.NOT_FOUND : DateUtil.toEpochDay(year, 9, day);
+            }
+        };
+    }
+    /**
+     * 1度限りの祝日(儀式、移動した祝日等)の規則を生成します
+     * @param holidayId 祝日IDをセット
+     * @param year 年をセット
+     * @param month 月をセット
+     * @param day 日をセット
+     * @return HolidayRule 規則が戻ります
+     */
+    public static HolidayRule oneOff(int holidayId, int year, final int month, final int day) {
+        return HolidayRule.fixed(holidayId, month, day, year, year);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 祝日の規則の集合を、年毎の祝日テーブルにコンパイルする機能を提供します
+ * <pre>
+ *  日付の規則(HolidayRule)を適用した後、振替休日と国民の休日を求めます。
+ *  同じ日に複数の規則が該当した場合は、先に登録した規則が優先されます。
+ * </pre>
+ * @author Kazzz.
+ * @since JDK1.5 Android Level 4
+ *
+ */
+public class HolidayRuleSet {
+    private final List<HolidayRule> rules = new ArrayList<HolidayRule>();
+    private int effectiveFrom = Integer.MIN_VALUE;
+    private int substituteHolidayId = HolidayId.NONE;
+    private int substituteFrom = Integer.MAX_VALUE;
+    private int substituteChainFrom = Integer.MAX_VALUE;
+    private int citizensHolidayId = HolidayId.NONE;
+    private int citizensFrom = Integer.MAX_VALUE;
+
+    /**
+     * 規則を追加します
+     * @param rule 規則をセット
+     * @return HolidayRuleSet このオブジェクトが戻ります
+     */
+    public HolidayRuleSet add(HolidayRule rule) {
+        if ( rule == null ) {
+            throw new IllegalArgumentException("rule is null");
+        }
+        this.rules.add(rule);
+        return this;
+    }
+    /**
+     * 規則の施行日をセットします(この日より前に祝日はありません)
+     * @param year 年をセット
+     * @param month 月をセット
+     * @param day 日をセット
+     * @return HolidayRuleSet このオブジェクトが戻ります
+     */
+    public HolidayRuleSet setEffectiveFrom(int year, int month, int day) {
+        this.effectiveFrom = DateUtil.toEpochDay(year, month, day);
+        return this;
+    }
+    /**
+     * 振替休日(日曜日の祝日の翌日)の祝日IDと施行日をセットします
+     * @param holidayId 振替休日の祝日IDをセット
+     * @param year 施行年をセット
+     * @param month 施行月をセット
+     * @param day 施行日をセット
+     * @return HolidayRuleSet このオブジェクトが戻ります
+     */
+    public HolidayRuleSet setSubstituteHoliday(int holidayId
+            , int year, int month, int day) {
+        this.substituteHolidayId = holidayId;
+        this.substituteFrom = DateUtil.toEpochDay(year, month, day);
+        return this;
+    }
+    /**
+     * 振替休日を、翌日では無く直後の祝日でない日とする規則の施行日をセットします
+     * <pre>
+     *  施行前は、日曜日の祝日の翌日が祝日の場合、振替休日はありません。
+     * </pre>
+     * @param year 施行年をセット
+     * @param month 施行月をセット
+     * @param day 施行日をセット
+     * @return HolidayRuleSet このオブジェクトが戻ります
+     */
+    public HolidayRuleSet setSubstituteChainFrom(int year, int month, int day) {
+        this.substituteChainFrom = DateUtil.toEpochDay(year, month, day);
+        return this;
+    }
+    /**
+     * 国民の休日(祝日に挟まれた平日)の祝日IDと施行日をセットします
+     * @param holidayId 国民の休日の祝日IDをセット
+     * @param year 施行年をセット
+     * @param month 施行月をセット
+     * @param day 施行日をセット
+     * @return HolidayRuleSet このオブジェクトが戻ります
+     */
+    public HolidayRuleSet setCitizensHoliday(int holidayId
+            , int year, int month, int day) {
+        this.citizensHolidayId = holidayId;
+        this.citizensFrom = DateUtil.toEpochDay(year, month, day);
+        return this;
+    }
+    /**
+     * 1年分の祝日IDの配列にコンパイルします
+     * <pre>
+     *  振替休日、国民の休日は規則による祝日が確定した後、1回の走査で求めます。
+     *  (連休中に続く振替休日も後戻りせずに決まります)
+     *  振替休日、国民の休日は年内で完結します。(年末年始に祝日が無いため)
+     * </pre>
+     * @param year 年をセット
+     * @return byte[] 通日(1月1日 = 0)を添字とした祝日IDの配列が戻ります
+     */
+    public byte[] compile(int year) {
+        int first = DateUtil.toEpochDay(year, 1, 1);
+        byte[] ids = new byte[DateUtil.lengthOfYear(year)];
+        for ( HolidayRule rule : this.rules ) {
+            if ( !rule.isEffective(year) ) continue;
+            int epochDay = rule.getEpochDay(year);
+            if ( epochDay == HolidayUtil.NOT_FOUND ) continue;
+            int i = epochDay - first;
+            if ( i >= 0 && i < ids.length && ids[i] == 0 ) {
+                ids[i] = (byte)rule.getHolidayId();
+            }
+        }
+        for ( int i = 0; i < ids.length && first + i < this.effectiveFrom; i++ ) {
+            ids[i] = 0;
+        }
+        //振替休日、国民の休日は規則による祝日だけを基準にする
+        //(走査中の日より後は未だ書き換えていないので、前日の分だけを覚えておく)
+        boolean pending = false;       // 振替休日が未だ決まっていない
+        boolean previousRule = false;  // 前日が規則による祝日
+        for ( int i = 0; i < ids.length; i++ ) {
+            int epochDay = first + i;
+            boolean rule = ids[i] != 0;
+            if ( pending ) {
+                if ( !rule ) {
+                    ids[i] = (byte)this.substituteHolidayId;
+                    pending = false;
+                } else if ( epochDay < this.substituteChainFrom ) {
+                    pending = false;    // 翌日が祝日の場合は振替なし
+                }
+            }
+            if ( ids[i] == 0 && this.citizensHolidayId != HolidayId.NONE
+                    && previousRule && i + 1 < ids.length && ids[i + 1] != 0
+                    && epochDay >= this.citizensFrom && !HolidayUtil.isSunday(epochDay) ) {
+                ids[i] = (byte)this.citizensHolidayId;
+            }
+            if ( rule && this.substituteHolidayId != HolidayId.NONE
+                    && epochDay + 1 >= this.substituteFrom && HolidayUtil.isSunday(epochDay) ) {
+                pending = true;
+            }
+            previousRule = rule;
+        }
+        return ids;
+    }
+}
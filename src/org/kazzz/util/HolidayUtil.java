@@ -25,6 +25,8 @@ package org.kazzz.util;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 祭日判定のための機能を提供します
@@ -34,19 +36,28 @@ import java.util.GregorianCalendar;
 public class HolidayUtil {
     private HolidayUtil() {}
     
-    private static final Calendar cstImplementTheLawOfHoliday
-        = new GregorianCalendar( 1948, Calendar.JULY, 20 );   // 祝日法施行
-    private static final  Calendar cstAkihitoKekkon
-        = new GregorianCalendar( 1959, Calendar.APRIL, 10 );  // 明仁親王の結婚の儀
-    private static final  Calendar cstShowaTaiso
-        = new GregorianCalendar( 1989, Calendar.FEBRUARY, 24 );// 昭和天皇大喪の礼
-    private static final  Calendar cstNorihitoKekkon
-        = new GregorianCalendar( 1993, Calendar.JUNE, 9 );// 徳仁親王の結婚の儀
-    private static final  Calendar cstSokuireiseiden
-        = new GregorianCalendar( 1990, Calendar.NOVEMBER, 12 );// 即位礼正殿の儀
-    private static final  Calendar cstImplementHoliday
-        = new GregorianCalendar( 1973, Calendar.APRIL, 12 );// 振替休日施行
+    /** 祝日テーブルで扱う最初の年 */
+    public static final int MIN_YEAR = 1948;
+    /** 祝日テーブルで扱う最後の年 (春分/秋分日の略算式の上限) */
+    public static final int MAX_YEAR = 2150;
+    /** 検索の結果、該当する日が無いことを示す通算日 */
+    public static final int NOT_FOUND = Integer.MIN_VALUE;
 
+    // 祝日法の規則 (祝日テーブルの生成に使用する)
+    private static final HolidayRuleSet rules = JapaneseHolidayRules.create();
+    // 年毎の祝日テーブル (初回参照時に生成する)
+    private static final YearTableCache yearTables = new YearTableCache(
+            MIN_YEAR, MAX_YEAR, new YearTableCache.Loader() {
+                public HolidayYear load(int year) {
+                    return HolidayUtil.loadYearTable(year);
+                }
+            });
+    // 外部の祝日データベース (設定されている場合はこちらを優先する)
+    private static volatile HolidayDatabase database;
+    // 祝日データベースの設定を変更した回数 (祝日の判定結果を保持する側が変更を検出する)
+    private static final AtomicInteger databaseVersion = new AtomicInteger();
+    // 生成済み祝日データ(HolidayData.PACKED)内の年毎の開始位置
+    private static final int[] packedOffsets = HolidayUtil.indexPackedData();
     
     /**
      * カレンダから祭日名を取得します
@@ -55,43 +66,30 @@ public class HolidayUtil {
      */
     public static String getHolidayName(Calendar calendar)
     {
-        String result;
-        String holidayName = HolidayUtil.prvHolidayChk(calendar);
-        if ( holidayName == "" ) {
-            //ハッピーマンデー (政権交代で変えられてしまう可能性)
-            if (calendar.get( Calendar.DAY_OF_WEEK ) == Calendar.MONDAY) {
-                // 月曜以外は振替休日判定不要
-                if (calendar.after( cstImplementHoliday) ||
-                        calendar.equals( cstImplementHoliday )) {
-                    Calendar yesterDay = (Calendar )calendar.clone();
-                    yesterDay.add( Calendar.DATE, -1 );
-                    holidayName = prvHolidayChk( yesterDay );
-                    result = "";
-                    if ( holidayName != "" ) {
-                        result = "振替休日";
-                    } else {
-                        result = "";
-                    }
-                } else {
-                    result = "";
-                }
-            } else {
-                result = "";
-            }
-        } else {
-            result = holidayName;
+        return HolidayUtil.getHolidayNameById(HolidayUtil.getHolidayId(calendar));
+    }
+    /**
+     * カレンダから祝日IDを取得します
+     * @param calendar カレンダをセット
+     * @return int 祝日IDが戻ります(祭日では無い場合、0が戻ります)
+     */
+    public static int getHolidayId(Calendar calendar) {
+        if ( calendar instanceof GregorianCalendar ) {
+            return HolidayUtil.getHolidayId(calendar.get(Calendar.YEAR)
+                    , calendar.get(Calendar.MONTH) + 1
+                    , calendar.get(Calendar.DAY_OF_MONTH));
         }
-        return result;
+        //和暦等は年のフィールドが西暦では無いので、時刻から日付を求める
+        return HolidayUtil.getHolidayId(
+                DateUtil.toEpochDay(calendar.getTimeInMillis(), calendar.getTimeZone()));
     }
     /**
      * Dateから祭日名を取得します
      * @param date Dateオブジェクトをセット
      */
     public static String getHolidayName(Date date) {
-        Calendar calendar = Calendar.getInstance();
-        calendar.setTime(date);
-        String ret = HolidayUtil.getHolidayName(calendar);
-        return ret != null ? ret : "";
+        return HolidayUtil.getHolidayNameById(HolidayUtil.getHolidayId(
+                DateUtil.toEpochDay(date.getTime(), TimeZone.getDefault())));
     }
 
     /**
@@ -102,11 +100,12 @@ public class HolidayUtil {
      * @return String 祭日名が戻ります(祭日では無い場合、空文字が戻ります)
      */
     public static String getHolidayName(int year, int month, int day) {
-        Calendar calendar = Calendar.getInstance();
-        calendar.set(Calendar.YEAR, year);
-        calendar.set(Calendar.MONTH, month-1);
-        calendar.set(Calendar.DAY_OF_MONTH, day);
-        return HolidayUtil.getHolidayName(calendar);
+        if ( DateUtil.isValidDate(year, month, day) ) {
+            return HolidayUtil.getHolidayNameById(
+                    HolidayUtil.getHolidayId(year, month, day));
+        }
+        //範囲外の月日(1/32等)は正規化した日付で判定する
+        return HolidayUtil.getHolidayName(new GregorianCalendar(year, month-1, day));
     }
     /**
      * 日曜日か否かを判定します
@@ -116,12 +115,161 @@ public class HolidayUtil {
      * @return true 休日だった場合は
      */
     public static boolean isSunday(int year, int month, int day) {
+        if ( DateUtil.isValidDate(year, month, day) ) {
+            return DateUtil.dayOfWeek(year, month, day) == Calendar.SUNDAY;
+        }
         Calendar calendar = Calendar.getInstance();
         calendar.set(Calendar.YEAR, year);
         calendar.set(Calendar.MONTH, month-1);
         calendar.set(Calendar.DAY_OF_MONTH, day);
         return HolidayUtil.isSunday(calendar);
     }
+    /**
+     * 日曜日か否かを判定します
+     * @param epochDay 1970/1/1を0とした通算日をセット
+     * @return true 日曜日だった場合は
+     */
+    public static boolean isSunday(int epochDay) {
+        return DateUtil.dayOfWeek(epochDay) == Calendar.SUNDAY;
+    }
+    /**
+     * 祝日IDを取得します
+     * <pre>
+     *  java.util.Calendarを使用せず、オブジェクトも生成しません。
+     *  (MAX_YEARより後の年の場合のみ、祝日の規則からその年のテーブルを生成します)
+     * </pre>
+     * @param year 年をセット
+     * @param month 月(1～12)をセット
+     * @param day 日をセット
+     * @return int 祝日IDが戻ります(祭日では無い場合、0が戻ります)
+     */
+    public static int getHolidayId(int year, int month, int day) {
+        if ( !DateUtil.isValidDate(year, month, day) ) {
+            throw new IllegalArgumentException(
+                    "invalid date: " + year + "/" + month + "/" + day);
+        }
+        if ( year < MIN_YEAR ) {
+            return 0;   //祝日法施行前
+        }
+        return HolidayUtil.getYearTable(year).getId(DateUtil.dayOfYear(year, month, day) - 1);
+    }
+    /**
+     * 祝日IDを取得します
+     * @param epochDay 1970/1/1を0とした通算日をセット
+     * @return int 祝日IDが戻ります(祭日では無い場合、0が戻ります)
+     */
+    public static int getHolidayId(int epochDay) {
+        int ymd = DateUtil.toYmd(epochDay);
+        return HolidayUtil.getHolidayId(ymd / 10000, ( ymd / 100 ) % 100, ymd % 100);
+    }
+    /**
+     * 月内の休日(日曜日又は祭日)をビットで表した値を取得します
+     * <pre>
+     *  ビットd(1～31)がd日に対応します。(ビット0は使用しません)
+     *  カレンダの描画時に、1月分の休日を日付毎の判定無しに求めるために使用します。
+     * </pre>
+     * @param year 年をセット
+     * @param month 月(1～12)をセット
+     * @return int 休日のビットを立てた値が戻ります
+     */
+    public static int monthHolidayMask(int year, int month) {
+        HolidayCalendar.checkMonth(month);
+        if ( year < MIN_YEAR ) {
+            return HolidayYear.sundayMask(year, month);   //祝日法施行前
+        }
+        return HolidayUtil.getYearTable(year).getHolidayMask(month);
+    }
+    /**
+     * 月内の祭日(名前のある祝日)をビットで表した値を取得します
+     * @param year 年をセット
+     * @param month 月(1～12)をセット
+     * @return int 祭日のビット(ビットd(1～31)がd日)を立てた値が戻ります
+     */
+    public static int monthNamedHolidayMask(int year, int month) {
+        HolidayCalendar.checkMonth(month);
+        if ( year < MIN_YEAR ) {
+            return 0;   //祝日法施行前
+        }
+        return HolidayUtil.getYearTable(year).getNamedHolidayMask(month);
+    }
+    /**
+     * 祝日IDに対応する祭日名を取得します
+     * @param holidayId 祝日IDをセット
+     * @return String 祭日名が戻ります(0又は未定義の祝日IDの場合、空文字が戻ります)
+     */
+    public static String getHolidayNameById(int holidayId) {
+        HolidayDatabase db = database;
+        if ( db != null ) {
+            return holidayId >= 0 && holidayId < db.getHolidayNameCount()
+                ? db.getHolidayName(holidayId) : "";
+        }
+        return holidayId >= 0 && holidayId < HolidayId.COUNT
+            ? HolidayId.getJapaneseName(holidayId) : "";
+    }
+    /**
+     * 祝日名の数(祝日IDの上限 + 1)を取得します
+     * @return int 祝日名の数が戻ります
+     */
+    static int getHolidayNameCount() {
+        HolidayDatabase db = database;
+        return db != null ? db.getHolidayNameCount() : HolidayId.COUNT;
+    }
+    /**
+     * 祝日データベースを設定します
+     * <pre>
+     *  設定すると、以後の祝日テーブルはデータベースから展開されます。
+     *  (アプリケーションの起動時、祝日を参照する前に設定してください)
+     * </pre>
+     * @param db MIN_YEAR～MAX_YEARを収録したデータベースをセット(nullの場合は組み込みのデータに戻す)
+     */
+    public static void setDatabase(HolidayDatabase db) {
+        if ( db != null && ( !db.contains(MIN_YEAR) || !db.contains(MAX_YEAR) ) ) {
+            throw new IllegalArgumentException("database must cover "
+                    + MIN_YEAR + "-" + MAX_YEAR + ": " 
+                    + db.getFirstYear() + "-" + db.getLastYear());
+        }
+        database = db;
+        yearTables.clear();
+        databaseVersion.incrementAndGet();
+    }
+    /**
+     * 祝日データベースの版数を取得します
+     * <pre>
+     *  setDatabaseを呼び出す毎に変わります。祝日の判定結果を保持する場合は、
+     *  保持した時点の版数と比較して、変わっていれば判定し直してください。
+     * </pre>
+     * @return int 版数が戻ります
+     */
+    public static int getDatabaseVersion() {
+        return databaseVersion.get();
+    }
+    /**
+     * 設定されている祝日データベースを取得します
+     * @return HolidayDatabase データベースが戻ります(未設定の場合、nullが戻ります)
+     */
+    public static HolidayDatabase getDatabase() {
+        return database;
+    }
+    /**
+     * 休日(日曜日又は祭日)か否かを判定します
+     * @param year 年をセット
+     * @param month 月(1～12)をセット
+     * @param day 日をセット
+     * @return true 休日だった場合は
+     */
+    public static boolean isHoliday(int year, int month, int day) {
+        return DateUtil.dayOfWeek(year, month, day) == Calendar.SUNDAY
+            || HolidayUtil.getHolidayId(year, month, day) != 0;
+    }
+    /**
+     * 休日(日曜日又は祭日)か否かを判定します
+     * @param epochDay 1970/1/1を0とした通算日をセット
+     * @return true 休日だった場合は
+     */
+    public static boolean isHoliday(int epochDay) {
+        return HolidayUtil.isSunday(epochDay)
+            || HolidayUtil.getHolidayId(epochDay) != 0;
+    }
     /**
      * 日曜日か否かを判定します
      * @param date 対象の日付をセット
@@ -136,264 +284,201 @@ public class HolidayUtil {
         }
     }
     /**
-     * カレンダから祭日を取得します
-     * @param calendar カレンダをセット
-     * @return 祭日名が戻ります(空文字の場合、祭日ではありません)
+     * 期間内の祝日の一覧を取得します
+     * <pre>
+     *  年毎の祝日索引を使って祝日から祝日へ直接移動するため、
+     *  期間の日数ではなく祝日の件数に比例した時間で処理します。
+     *  期間の内、MIN_YEAR～MAX_YEARの範囲外の部分は対象外となります。
+     * </pre>
+     * @param fromEpochDay 期間の開始日(通算日、この日を含む)をセット
+     * @param toEpochDay 期間の終了日(通算日、この日を含む)をセット
+     * @return HolidayList 祝日の一覧が戻ります
      */
-    private static String prvHolidayChk( Calendar calendar )
-    {
-        int nNumberOfWeek;
-        String result;
-        int year = calendar.get( Calendar.YEAR );
-        int month = calendar.get( Calendar.MONTH ) + 1; // MyMonth:1～12
-        int day = calendar.get( Calendar.DATE );
-    
-        if ( calendar.before( cstImplementTheLawOfHoliday ) ) {
-            return ""; // 祝日法施行(1948/7/20 )以前
-        } else;
-    
-        result = "";
-        switch ( month ) {
-            // １月 //
-        case 1:
-            if ( day == 1 ) {
-                result = "元日";
-            } else {
-                if ( year >= 2000 ) {
-                    nNumberOfWeek = ( (day - 1 ) / 7 ) + 1;
-                    if ( ( nNumberOfWeek == 2 ) &&
-                            ( calendar.get(Calendar.DAY_OF_WEEK ) 
-                                    == Calendar.MONDAY ) ) {
-                        result = "成人の日";
-                    } else;
-                } else {
-                    if ( day == 15 ) {
-                        result = "成人の日";
-                    } else;
-                }
-            }
-            break;
-            // ２月 //
-         case 2:
-            if ( day == 11 ) {
-                if ( year >= 1967 ) {
-                    result = "建国記念の日";
-                } else;
-            } else {
-                if ( calendar.equals( cstShowaTaiso ) ) {
-                    result = "昭和天皇の大喪の礼";
-                } else;
-            }
-            break;
-            // ３月 //
-         case 3:
-            if ( day == prvDayOfSpringEquinox( year ) ) {  // 1948～2150以外は[99]
-                result = "春分の日";                       // が返るので､必ず≠になる
-            } else;
-            break;
-            // ４月 //
-         case 4:
-            if ( day == 29 ) {
-                if ( year >= 1989 ) {
-                    result = "みどりの日";
-                } else {
-                result = "天皇誕生日";
-                }
-            } else {
-                if ( calendar.equals( cstAkihitoKekkon ) ) {
-                    result = "皇太子明仁親王の結婚の儀";// ( =1959/4/10 )
-                } else;
-            }
-            break;
-            // ５月 //
-         case 5:
-            if ( day == 3 ) {
-                result = "憲法記念日";
-            } else {
-                if ( day == 4 ) {
-                    if ( calendar.get( Calendar.DAY_OF_WEEK ) 
-                            > Calendar.MONDAY ) {
-                        // 5/4が日曜日は『只の日曜』､月曜日は『憲法記念日の振替休日』
-                        if ( year >= 1986 ) {
-                            result = "国民の休日";
-                        } else;
-                    } else;
-                } else {
-                    if ( day == 5 ) {
-                        result = "子供の日";
-                    } else;
-                }
-            }
-            break;
-            // ６月 //
-         case 6:
-            if ( calendar.equals( cstNorihitoKekkon ) ) {
-                result = "皇太子徳仁親王の結婚の儀";
-            } else;
-            break;
-            // ７月 //
-         case 7:
-            if ( year >= 2003 ) {
-                nNumberOfWeek = ( (day - 1 ) / 7 ) + 1;
-                if ( ( nNumberOfWeek == 3 ) 
-                        && ( calendar.get( 
-                          Calendar.DAY_OF_WEEK ) == Calendar.MONDAY ) ) {
-                    result = "海の日";
-                } else;
-            } else {
-                if ( year >= 1996 ) {
-                    if ( day == 20 ) {
-                        result = "海の日";
-                    } else;
-                } else;
-            }
-            break;
-            // ９月 //
-         case 9:
-            //第３月曜日( 15～21 )と秋分日(22～24 )が重なる事はない
-            int MyAutumnEquinox = prvDayOfAutumnEquinox( year );
-            if ( day == MyAutumnEquinox ) {    // 1948～2150以外は[99]
-                result = "秋分の日";           // が返るので､必ず≠になる
-            } else {
-                if ( year >= 2003 ) {
-                    nNumberOfWeek = ( (day - 1 ) / 7 ) + 1;
-                    if ( (nNumberOfWeek == 3 ) && 
-                            ( calendar.get(
-                               Calendar.DAY_OF_WEEK ) == Calendar.MONDAY ) ) {
-                        result = "敬老の日";
-                    } else {
-                        if ( calendar.get( 
-                               Calendar.DAY_OF_WEEK ) == Calendar.TUESDAY ) {
-                            if ( day == ( MyAutumnEquinox - 1 ) ) {
-                                result = "国民の休日";
-                            } else;
-                        } else;
-                    }
-                } else {
-                    if ( year >= 1966 ) {
-                        if ( day == 15 ) {
-                            result = "敬老の日";
-                        } else;
-                    } else;
-                }
+    public static HolidayList getHolidays(int fromEpochDay, int toEpochDay) {
+        int from = Math.max(fromEpochDay, DateUtil.toEpochDay(MIN_YEAR, 1, 1));
+        int to = Math.min(toEpochDay, DateUtil.toEpochDay(MAX_YEAR, 12, 31));
+        if ( from > to ) {
+            return new HolidayList(new int[0], new byte[0]);
+        }
+        int fromYear = DateUtil.getYear(from);
+        int toYear = DateUtil.getYear(to);
+        
+        //件数を数えてから詰める
+        int count = 0;
+        for ( int year = fromYear; year <= toYear; year++ ) {
+            HolidayYear table = HolidayUtil.getYearTable(year);
+            count += HolidayUtil.indexAfter(table, to) - HolidayUtil.indexOf(table, from);
+        }
+        int[] epochDays = new int[count];
+        byte[] ids = new byte[count];
+        int n = 0;
+        for ( int year = fromYear; year <= toYear; year++ ) {
+            HolidayYear table = HolidayUtil.getYearTable(year);
+            int end = HolidayUtil.indexAfter(table, to);
+            for ( int i = HolidayUtil.indexOf(table, from); i < end; i++ ) {
+                int dayOfYear = table.getHolidayDay(i);
+                epochDays[n] = table.getFirstEpochDay() + dayOfYear;
+                ids[n] = (byte)table.getId(dayOfYear);
+                n++;
             }
-            break;
-            // １０月 //
-         case 10:
-            if ( year >= 2000 ) {
-                nNumberOfWeek = ( ( day - 1 ) / 7 ) + 1;
-                if ( (nNumberOfWeek == 2 ) 
-                        && ( calendar.get( 
-                         Calendar.DAY_OF_WEEK ) == Calendar.MONDAY ) ) {
-                    result = "体育の日";
-                } else;
-            } else {
-                if ( year >= 1966 ) {
-                    if ( day == 10 ) {
-                        result = "体育の日";
-                    } else;
-                } else;
+        }
+        return new HolidayList(epochDays, ids);
+    }
+    /**
+     * 期間内の祝日の一覧を取得します
+     * @param fromYear 開始年をセット
+     * @param fromMonth 開始月をセット
+     * @param fromDay 開始日をセット
+     * @param toYear 終了年をセット
+     * @param toMonth 終了月をセット
+     * @param toDay 終了日をセット
+     * @return HolidayList 祝日の一覧が戻ります(開始日、終了日を含みます)
+     */
+    public static HolidayList getHolidays(int fromYear, int fromMonth, int fromDay
+            , int toYear, int toMonth, int toDay) {
+        return HolidayUtil.getHolidays(
+                DateUtil.toEpochDay(fromYear, fromMonth, fromDay)
+                , DateUtil.toEpochDay(toYear, toMonth, toDay));
+    }
+    /**
+     * 次の祝日を検索します
+     * <pre>
+     *  年毎の祝日索引を二分探索し、年内に無ければ翌年の先頭に移ります。
+     *  オブジェクトは生成しません。
+     * </pre>
+     * @param epochDay 起点の通算日をセット(この日は含みません)
+     * @return int 次の祝日の通算日が戻ります(MAX_YEARまでに無い場合、NOT_FOUNDが戻ります)
+     */
+    public static int nextHoliday(int epochDay) {
+        int from = Math.max(epochDay + 1, DateUtil.toEpochDay(MIN_YEAR, 1, 1));
+        if ( from > DateUtil.toEpochDay(MAX_YEAR, 12, 31) ) {
+            return NOT_FOUND;
+        }
+        for ( int year = DateUtil.getYear(from); year <= MAX_YEAR; year++ ) {
+            HolidayYear table = HolidayUtil.getYearTable(year);
+            int index = HolidayUtil.indexOf(table, from);
+            if ( index < table.getHolidayCount() ) {
+                return table.getFirstEpochDay() + table.getHolidayDay(index);
             }
-            break;
-            // １１月 //
-         case 11:
-            if ( day == 3 ) {
-                result = "文化の日";
-            } else {
-                if ( day == 23 ) {
-                    result = "勤労感謝の日";
-                } else {
-                    if ( calendar.equals( cstSokuireiseiden ) ) {
-                        result = "即位礼正殿の儀";
-                    } else;
-                }
+        }
+        return NOT_FOUND;
+    }
+    /**
+     * 前の祝日を検索します
+     * @param epochDay 起点の通算日をセット(この日は含みません)
+     * @return int 前の祝日の通算日が戻ります(MIN_YEARまでに無い場合、NOT_FOUNDが戻ります)
+     */
+    public static int previousHoliday(int epochDay) {
+        int to = Math.min(epochDay - 1, DateUtil.toEpochDay(MAX_YEAR, 12, 31));
+        if ( to < DateUtil.toEpochDay(MIN_YEAR, 1, 1) ) {
+            return NOT_FOUND;
+        }
+        for ( int year = DateUtil.getYear(to); year >= MIN_YEAR; year-- ) {
+            HolidayYear table = HolidayUtil.getYearTable(year);
+            int index = HolidayUtil.indexAfter(table, to) - 1;
+            if ( index >= 0 ) {
+                return table.getFirstEpochDay() + table.getHolidayDay(index);
             }
-            break;
-            // １２月 //
-        case 12:
-            if ( day == 23 ) {
-                if ( year >= 1989 ) {
-                    result = "天皇誕生日";
-                } else;
-            } else;
-            break;
         }
-    
-        return result;
+        return NOT_FOUND;
+    }
+    /**
+     * 指定した通算日以降で最初の祝日の年内索引を取得します
+     * @param table 祝日テーブルをセット
+     * @param epochDay 通算日をセット
+     * @return int 年内の索引が戻ります
+     */
+    private static int indexOf(HolidayYear table, int epochDay) {
+        int dayOfYear = epochDay - table.getFirstEpochDay();
+        if ( dayOfYear <= 0 ) return 0;
+        return table.indexOf(dayOfYear);
+    }
+    /**
+     * 指定した通算日より後で最初の祝日の年内索引を取得します
+     * @param table 祝日テーブルをセット
+     * @param epochDay 通算日をセット
+     * @return int 年内の索引が戻ります
+     */
+    private static int indexAfter(HolidayYear table, int epochDay) {
+        int dayOfYear = epochDay - table.getFirstEpochDay();
+        if ( dayOfYear >= table.length() ) return table.getHolidayCount();
+        return table.indexOf(dayOfYear + 1);
+    }
+    /**
+     * 対象年の祝日テーブルを取得します
+     * <pre>
+     *  テーブルは初回参照時に生成済み祝日データ(HolidayData)から展開され、
+     *  以後は再利用されます。生成済みデータに無い年は祝日の規則から生成します。
+     *  参照はロックを取らず、生成は1年につき1度だけ行います。(YearTableCache)
+     *  MAX_YEARより後の年は、直近に参照した数年分を保持します。
+     *  国民の祝日のテーブルの参照は全てここを通るので、従来のロジックとの
+     *  突き合わせ(HolidayVerifier)もここで行います。
+     * </pre>
+     * @param year 年(MIN_YEAR以降)をセット
+     * @return HolidayYear 祝日テーブルが戻ります
+     */
+    static HolidayYear getYearTable(int year) {
+        HolidayYear table = yearTables.get(year);
+        if ( HolidayVerifier.isSampling() ) {
+            HolidayVerifier.sample(table); //従来のロジックとの突き合わせ
+        }
+        return table;
     }
-
     /**
-     * 春分の日の判定
+     * 対象年の祝日テーブルを生成します
      * @param year 年をセット
-     * @return 春分日が戻ります
+     * @return HolidayYear 祝日テーブルが戻ります
      */
-    private static int prvDayOfSpringEquinox( int year )
-    {
-        // 春分/秋分日の略算式は
-        // 『海上保安庁水路部 暦計算研究会編 新こよみ便利帳』
-        // で紹介されている式です。
-        int springEquinox_ret;
-        if ( year <= 1947 ) {
-            springEquinox_ret = 99;    //祝日法施行前
-        } else {
-            if ( year <= 1979 ) {
-                springEquinox_ret = (int)( 20.8357 + 
-                ( 0.242194 * ( year - 1980 ) ) 
-                - (int)( (year - 1983 ) / 4 ) );
-            } else {
-                if ( year <= 2099 ) {
-                    springEquinox_ret = (int)( 20.8431 + 
-                    ( 0.242194 * ( year - 1980 ) ) 
-                    - (int)( (year - 1980 ) / 4 ) );
-                } else {
-                    if ( year <= 2150 ) {
-                        springEquinox_ret = (int)( 21.851 + 
-                        ( 0.242194 * ( year - 1980 ) ) 
-                        - (int)( (year - 1980 ) / 4 ) );
-                    } else {
-                        springEquinox_ret = 99;   //2151年以降は略算式が無いので不明
-                    }
-                }
-            }
+    private static HolidayYear loadYearTable(int year) {
+        HolidayDatabase db = database;
+        if ( db != null && db.contains(year) ) {
+            return db.toYearTable(year);
+        } else if ( year >= HolidayData.FIRST_YEAR && year <= HolidayData.LAST_YEAR ) {
+            return HolidayUtil.unpackYearTable(year);
         }
-        return springEquinox_ret;
+        return HolidayUtil.buildYearTable(year);
+    }
+    /**
+     * 生成済み祝日データ内の年毎の開始位置を求めます
+     * @return int[] 年毎の開始位置が戻ります
+     */
+    private static int[] indexPackedData() {
+        String packed = HolidayData.PACKED;
+        int[] offsets = new int[HolidayData.LAST_YEAR - HolidayData.FIRST_YEAR + 1];
+        int offset = 0;
+        for ( int i = 0; i < offsets.length; i++ ) {
+            offsets[i] = offset;
+            offset += packed.charAt(offset) + 1;
+        }
+        return offsets;
     }
-    
     /**
-     * 秋分日の判定
+     * 生成済み祝日データから1年分の祝日テーブルを展開します
      * @param year 年をセット
-     * @return 秋分日が戻ります
+     * @return HolidayYear 展開した祝日テーブルが戻ります
      */
-    private static int prvDayOfAutumnEquinox( int MyYear )
-    {
-        // 春分/秋分日の略算式は
-        // 『海上保安庁水路部 暦計算研究会編 新こよみ便利帳』
-        // で紹介されている式です。
-       int autumnEquinox_ret;
-        if ( MyYear <= 1947 ) {
-            autumnEquinox_ret = 99; //祝日法施行前
-        } else {
-            if ( MyYear <= 1979 ) {
-                autumnEquinox_ret = (int)( 23.2588 + 
-                ( 0.242194 * ( MyYear - 1980 ) ) 
-                - (int)( (MyYear - 1983 ) / 4 ) );
-            } else {
-                if ( MyYear <= 2099 ) {
-                    autumnEquinox_ret = (int)( 23.2488 + 
-                    ( 0.242194 * ( MyYear - 1980 ) ) 
-                    - (int)( (MyYear - 1980 ) / 4 ) );
-                } else {
-                    if ( MyYear <= 2150 ) {
-                        autumnEquinox_ret = (int)( 24.2488 + 
-                        ( 0.242194 * ( MyYear - 1980 ) ) 
-                        - (int)( (MyYear - 1980 ) / 4 ) );
-                    } else {
-                        autumnEquinox_ret = 99; //2151年以降は略算式が無いので不明
-                    }
-                }
-            }
+    private static HolidayYear unpackYearTable(int year) {
+        String packed = HolidayData.PACKED;
+        int offset = packedOffsets[year - HolidayData.FIRST_YEAR];
+        int count = packed.charAt(offset);
+        int idMask = ( 1 << HolidayData.ID_BITS ) - 1;
+        byte[] ids = new byte[DateUtil.lengthOfYear(year)];
+        for ( int i = 1; i <= count; i++ ) {
+            char c = packed.charAt(offset + i);
+            ids[c >>> HolidayData.ID_BITS] = (byte)( c & idMask );
         }
-        return autumnEquinox_ret;
+        return new HolidayYear(year, ids);
+    }
+    /**
+     * 祝日の規則をコンパイルして1年分の祝日テーブルを生成します
+     * <pre>
+     *  生成済み祝日データの作成(HolidayTableGenerator)にも使用します。
+     * </pre>
+     * @param year 年をセット
+     * @return HolidayYear 生成した祝日テーブルが戻ります
+     */
+    static HolidayYear buildYearTable(int year) {
+        return new HolidayYear(year, rules.compile(year));
     }
     
 }
\ No newline at end of file
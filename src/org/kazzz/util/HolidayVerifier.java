@@ -0,0 +1,358 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.util;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 祝日テーブルによる判定を、従来の祝日判定ロジック(LegacyHolidayRules)と突き合わせて検証する機能を提供します
+ * <pre>
+ *  verifyはMIN_YEAR～MAX_YEARの全ての日を両方のロジックで判定し、
+ *  不一致の件数とそれぞれの所要時間を返します。
+ *  setSamplingIntervalを設定すると、国民の祝日の祝日テーブルの参照のn回に1回、
+ *  参照したテーブルの1日を従来のロジックでも判定し、結果をgetSamplingReportで
+ *  参照できます。(運用中の確認用)
+ *  テーブルの参照はHolidayUtil、HolidayCalendar、DateInfoPool、HolidayClassifier、
+ *  BusinessDayCalendar等の全ての経路が通るHolidayUtil.getYearTableで数えます。
+ *  (会社の休業日等を合成したカレンダは、テーブルの生成時に国民の祝日を参照した時点で数えます)
+ *  回数はスレッド毎に数えるので、参照の度に共有の変数を更新することはありません。
+ *  従来のロジックは2006年までの祝日法にしか対応していないので、
+ *  LEGACY_LAST_YEARより後の不一致は法改正による差異として別に数えます。
+ * </pre>
+ * @author Kazzz.
+ * @since JDK1.5 Android Level 4
+ *
+ */
+public final class HolidayVerifier {
+    private HolidayVerifier() {}
+
+    /** 従来のロジックが対応している最後の年 (2007年以降は昭和の日、振替休日の改正等が未対応) */
+    public static final int LEGACY_LAST_YEAR = 2006;
+    /** 不一致の内容を保持する最大件数 */
+    public static final int MAX_MISMATCH_SAMPLES = 20;
+
+    // サンプリングの間隔 (0の場合は無効)
+    private static volatile int samplingInterval;
+    // スレッド毎のサンプリングの状態
+    private static final ThreadLocal<SamplingState> samplingStates =
+        new ThreadLocal<SamplingState>() {
+            @Override
+            protected SamplingState initialValue() {
+                return new SamplingState();
+            }
+        };
+    private static final AtomicLong sampledDays = new AtomicLong();
+    private static final AtomicLong sampledMismatches = new AtomicLong();
+    private static final AtomicLong sampledRevisionMismatches = new AtomicLong();
+    private static final List<String> sampledMismatchSamples = new ArrayList<String>();
+
+    /**
+     * スレッド毎のサンプリングの状態を保持します
+     */
+    private static final class SamplingState {
+        int interval;  // countdownを設定した時点の間隔
+        int countdown; // 次にサンプリングするまでの参照回数
+        int seed = (int)Thread.currentThread().getId() * 0x9e3779b9 + 1; // 検証する日の選択に使用する
+    }
+    /**
+     * 検証結果を提供します
+     * @author Kazzz.
+     * @since JDK1.5 Android Level 4
+     *
+     */
+    public static final class Report {
+        private final long days;
+        private final long mismatches;
+        private final long revisionMismatches;
+        private final long legacyNanos;
+        private final long fastNanos;
+        private final List<String> mismatchSamples;
+
+        /**
+         * コンストラクタ
+         * @param days 検証した日数をセット
+         * @param mismatches LEGACY_LAST_YEAR以前の不一致の件数をセット
+         * @param revisionMismatches LEGACY_LAST_YEARより後の不一致の件数をセット
+         * @param legacyNanos 従来のロジックの所要時間(ナノ秒)をセット
+         * @param fastNanos 祝日テーブルの所要時間(ナノ秒)をセット
+         * @param mismatchSamples 不一致の内容をセット
+         */
+        Report(long days, long mismatches, long revisionMismatches
+                , long legacyNanos, long fastNanos, List<String> mismatchSamples) {
+            this.days = days;
+            this.mismatches = mismatches;
+            this.revisionMismatches = revisionMismatches;
+            this.legacyNanos = legacyNanos;
+            this.fastNanos = fastNanos;
+            this.mismatchSamples = Collections.unmodifiableList(mismatchSamples);
+        }
+        /**
+         * 検証した日数を取得します
+         * @return long 日数が戻ります
+         */
+        public long getDays() {
+            return this.days;
+        }
+        /**
+         * 不一致の件数を取得します
+         * @return long LEGACY_LAST_YEAR以前の不一致の件数が戻ります
+         */
+        public long getMismatches() {
+            return this.mismatches;
+        }
+        /**
+         * 法改正による差異の件数を取得します
+         * @return long LEGACY_LAST_YEARより後の不一致の件数が戻ります
+         */
+        public long getRevisionMismatches() {
+            return this.revisionMismatches;
+        }
+        /**
+         * 従来のロジックの所要時間を取得します
+         * @return long 所要時間(ナノ秒)が戻ります(サンプリングの場合は0)
+         */
+        public long getLegacyNanos() {
+            return this.legacyNanos;
+        }
+        /**
+         * 祝日テーブルの所要時間を取得します
+         * @return long 所要時間(ナノ秒)が戻ります(サンプリングの場合は0)
+         */
+        public long getFastNanos() {
+            return this.fastNanos;
+        }
+        /**
+         * 祝日テーブルによる判定の速度向上率を取得します
+         * @return double 従来のロジックの所要時間 / 祝日テーブルの所要時間が戻ります
+         */
+        public double getSpeedup() {
+            return this.fastNanos == 0 ? 0.0 : (double)this.legacyNanos / this.fastNanos;
+        }
+        /**
+         * 不一致の内容を取得します
+         * @return List&lt;String&gt; 最大MAX_MISMATCH_SAMPLES件の不一致の内容が戻ります
+         */
+        public List<String> getMismatchSamples() {
+            return this.mismatchSamples;
+        }
+        /**
+         * 従来のロジックと一致したか否かを判定します
+         * @return boolean LEGACY_LAST_YEAR以前に不一致が無い場合trueが戻ります
+         */
+        public boolean isConsistent() {
+            return this.mismatches == 0;
+        }
+        /* (non-Javadoc)
+         * @see java.lang.Object#toString()
+         */
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("days=").append(this.days)
+              .append(" mismatches=").append(this.mismatches)
+              .append(" revisionMismatches=").append(this.revisionMismatches);
+            if ( this.fastNanos != 0 ) {
+                sb.append(" legacy=").append(this.legacyNanos / 1000000).append("ms")
+                  .append(" fast=").append(this.fastNanos / 1000000).append("ms")
+                  .append(" speedup=").append(Math.round(this.getSpeedup() * 10) / 10.0);
+            }
+            for ( String sample : this.mismatchSamples ) {
+                sb.append("\n  ").append(sample);
+            }
+            return sb.toString();
+        }
+    }
+
+    /**
+     * MIN_YEAR～MAX_YEARの全ての日を検証します
+     * @return Report 検証結果が戻ります
+     */
+    public static Report verify() {
+        return HolidayVerifier.verify(HolidayUtil.MIN_YEAR, HolidayUtil.MAX_YEAR);
+    }
+    /**
+     * 指定した期間の全ての日を検証します
+     * <pre>
+     *  従来のロジック、祝日テーブルの順に全ての日を判定し、それぞれの所要時間を測ります。
+     *  (祝日テーブルの所要時間には、テーブルの初回生成を含みます)
+     * </pre>
+     * @param fromYear 最初の年をセット
+     * @param toYear 最後の年をセット
+     * @return Report 検証結果が戻ります
+     */
+    public static Report verify(int fromYear, int toYear) {
+        if ( fromYear > toYear ) {
+            throw new IllegalArgumentException("fromYear > toYear: " + fromYear + " " + toYear);
+        }
+        int first = DateUtil.toEpochDay(fromYear, 1, 1);
+        int count = DateUtil.toEpochDay(toYear + 1, 1, 1) - first;
+
+        //従来のロジック (Calendarを1日ずつ進める)
+        String[] legacyNames = new String[count];
+        Calendar calendar = new GregorianCalendar(fromYear, Calendar.JANUARY, 1);
+        long start = System.nanoTime();
+        for ( int i = 0; i < count; i++ ) {
+            legacyNames[i] = LegacyHolidayRules.getHolidayName((Calendar)calendar.clone());
+            calendar.add(Calendar.DATE, 1);
+        }
+        long legacyNanos = System.nanoTime() - start;
+
+        //祝日テーブル
+        int[] ids = new int[count];
+        start = System.nanoTime();
+        for ( int i = 0; i < count; i++ ) {
+            ids[i] = HolidayUtil.getHolidayId(first + i);
+        }
+        long fastNanos = System.nanoTime() - start;
+
+        long mismatches = 0;
+        long revisionMismatches = 0;
+        List<String> samples = new ArrayList<String>();
+        for ( int i = 0; i < count; i++ ) {
+            String name = HolidayUtil.getHolidayNameById(ids[i]);
+            if ( name.equals(legacyNames[i]) ) continue;
+            int ymd = DateUtil.toYmd(first + i);
+            if ( ymd / 10000 > LEGACY_LAST_YEAR ) {
+                revisionMismatches++;
+            } else {
+                mismatches++;
+                if ( samples.size() < MAX_MISMATCH_SAMPLES ) {
+                    samples.add(HolidayVerifier.describe(ymd, legacyNames[i], name));
+                }
+            }
+        }
+        return new Report(count, mismatches, revisionMismatches
+                , legacyNanos, fastNanos, samples);
+    }
+    /**
+     * サンプリングの間隔をセットします
+     * <pre>
+     *  スレッド毎に祝日テーブルの参照のinterval回に1回、参照したテーブルの1日を
+     *  従来のロジックでも判定します。
+     *  従来のロジックは遅いので、運用中は十分に大きな間隔をセットしてください。
+     * </pre>
+     * @param interval 間隔をセット(0の場合はサンプリングしない)
+     */
+    public static void setSamplingInterval(int interval) {
+        if ( interval < 0 ) {
+            throw new IllegalArgumentException("invalid interval: " + interval);
+        }
+        samplingInterval = interval;
+    }
+    /**
+     * サンプリングの間隔を取得します
+     * @return int 間隔が戻ります(0の場合はサンプリングしない)
+     */
+    public static int getSamplingInterval() {
+        return samplingInterval;
+    }
+    /**
+     * サンプリングによる検証結果を取得します
+     * @return Report 検証結果が戻ります(所要時間は0となります)
+     */
+    public static Report getSamplingReport() {
+        synchronized ( sampledMismatchSamples ) {
+            return new Report(sampledDays.get(), sampledMismatches.get()
+                    , sampledRevisionMismatches.get(), 0, 0
+                    , new ArrayList<String>(sampledMismatchSamples));
+        }
+    }
+    /**
+     * サンプリングによる検証結果をクリアします
+     */
+    public static void resetSampling() {
+        synchronized ( sampledMismatchSamples ) {
+            sampledDays.set(0);
+            sampledMismatches.set(0);
+            sampledRevisionMismatches.set(0);
+            sampledMismatchSamples.clear();
+        }
+    }
+    /**
+     * サンプリングが有効か否かを判定します
+     * @return boolean 有効な場合trueが戻ります
+     */
+    static boolean isSampling() {
+        return samplingInterval != 0;
+    }
+    /**
+     * 祝日テーブルの参照をサンプリングします
+     * <pre>
+     *  スレッド毎の残り回数を減らし、0になったらテーブル内の1日を選んで検証します。
+     * </pre>
+     * @param table 参照した国民の祝日の祝日テーブルをセット
+     */
+    static void sample(HolidayYear table) {
+        int interval = samplingInterval;
+        if ( interval == 0 ) {
+            return;
+        }
+        SamplingState state = samplingStates.get();
+        if ( state.interval != interval ) {
+            state.interval = interval;
+            state.countdown = interval;
+        }
+        if ( --state.countdown > 0 ) {
+            return;
+        }
+        state.countdown = interval;
+        //線形合同法で日を選ぶ (上位ビットを使用する)
+        state.seed = state.seed * 1103515245 + 12345;
+        int dayOfYear = ( state.seed >>> 8 ) % table.length();
+        int ymd = DateUtil.toYmd(table.getFirstEpochDay() + dayOfYear);
+        HolidayVerifier.sample(ymd / 10000, ( ymd / 100 ) % 100, ymd % 100
+                , table.getId(dayOfYear));
+    }
+    /**
+     * 祝日テーブルによる判定結果を従来のロジックと突き合わせます
+     * @param year 年をセット
+     * @param month 月(1～12)をセット
+     * @param day 日をセット
+     * @param holidayId 祝日テーブルによる祝日IDをセット
+     */
+    private static void sample(int year, int month, int day, int holidayId) {
+        String legacyName = LegacyHolidayRules.getHolidayName(
+                new GregorianCalendar(year, month - 1, day));
+        String name = HolidayUtil.getHolidayNameById(holidayId);
+        sampledDays.incrementAndGet();
+        if ( name.equals(legacyName) ) {
+            return;
+        }
+        if ( year > LEGACY_LAST_YEAR ) {
+            sampledRevisionMismatches.incrementAndGet();
+            return;
+        }
+        sampledMismatches.incrementAndGet();
+        synchronized ( sampledMismatchSamples ) {
+            if ( sampledMismatchSamples.size() < MAX_MISMATCH_SAMPLES ) {
+                sampledMismatchSamples.add(HolidayVerifier.describe(
+                        year * 10000 + month * 100 + day, legacyName, name));
+            }
+        }
+    }
+    /**
+     * 不一致の内容を文字列にします
+     * @param ymd yyyymmddをセット
+     * @param legacyName 従来のロジックによる祭日名をセット
+     * @param name 祝日テーブルによる祭日名をセット
+     * @return String 内容が戻ります
+     */
+    private static String describe(int ymd, String legacyName, String name) {
+        return ymd / 10000 + "/" + ( ymd / 100 ) % 100 + "/" + ymd % 100
+            + " legacy=" + legacyName + " table=" + name;
+    }
+}
@@ -0,0 +1,168 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.util;
+
+import java.util.Calendar;
+
+/**
+ * 1年分の祝日情報を保持するテーブルを提供します
+ * <pre>
+ *  通日(1月1日 = 0)を添字とした配列に祝日IDを1バイトで格納します。
+ *  併せて祝日のみを昇順に並べた索引を保持し、範囲検索に使用します。
+ *  描画用に、月毎の休日(日曜日又は祭日)と祭日をビットで表した値も保持します。
+ *  生成後は変更されないので、複数のスレッドから参照しても安全です。
+ * </pre>
+ * @author Kazzz.
+ * @since JDK1.5 Android Level 4
+ *
+ */
+final class HolidayYear {
+    private final int year;
+    private final int firstEpochDay;
+    private final byte[] ids;
+    private final short[] holidayDays; // 祝日の通日(昇順)
+    private final int[] holidayMasks = new int[12]; // 月毎の休日 (ビットdがd日)
+    private final int[] namedMasks = new int[12];   // 月毎の祭日 (ビットdがd日)
+
+    /**
+     * コンストラクタ
+     * @param year 年をセット
+     * @param ids 通日毎の祝日IDをセット(呼び出し後に変更しないこと)
+     */
+    HolidayYear(int year, byte[] ids) {
+        this.year = year;
+        this.firstEpochDay = DateUtil.toEpochDay(year, 1, 1);
+        this.ids = ids;
+        
+        int count = 0;
+        for ( int i = 0; i < ids.length; i++ ) {
+            if ( ids[i] != 0 ) count++;
+        }
+        this.holidayDays = new short[count];
+        count = 0;
+        for ( int i = 0; i < ids.length; i++ ) {
+            if ( ids[i] != 0 ) {
+                this.holidayDays[count++] = (short)i;
+            }
+        }
+        int i = 0;
+        for ( int month = 1; month <= 12; month++ ) {
+            int length = DateUtil.lengthOfMonth(year, month);
+            int named = 0;
+            for ( int day = 1; day <= length; day++, i++ ) {
+                if ( ids[i] != 0 ) named |= 1 << day;
+            }
+            this.namedMasks[month - 1] = named;
+            this.holidayMasks[month - 1] = named | HolidayYear.sundayMask(year, month);
+        }
+    }
+    /**
+     * 月内の日曜日をビットで表した値を取得します
+     * @param year 年をセット
+     * @param month 月(1～12)をセット
+     * @return int ビットd(1～31)がd日に対応する値が戻ります
+     */
+    static int sundayMask(int year, int month) {
+        int first = DateUtil.dayOfWeek(year, month, 1) - Calendar.SUNDAY; // 1日の曜日(日曜日 = 0)
+        int length = DateUtil.lengthOfMonth(year, month);
+        int mask = 0;
+        for ( int day = ( 7 - first ) % 7 + 1; day <= length; day += 7 ) {
+            mask |= 1 << day;
+        }
+        return mask;
+    }
+    /**
+     * 年を取得します
+     * @return int 年が戻ります
+     */
+    int getYear() {
+        return this.year;
+    }
+    /**
+     * 1月1日の通算日を取得します
+     * @return int 1970/1/1を0とした通算日が戻ります
+     */
+    int getFirstEpochDay() {
+        return this.firstEpochDay;
+    }
+    /**
+     * 祝日IDを取得します
+     * @param dayOfYear 通日(1月1日 = 0)をセット
+     * @return int 祝日IDが戻ります(祝日ではない場合、0が戻ります)
+     */
+    int getId(int dayOfYear) {
+        return this.ids[dayOfYear] & 0xff;
+    }
+    /**
+     * 月内の休日(日曜日又は祭日)をビットで表した値を取得します
+     * @param month 月(1～12)をセット
+     * @return int ビットd(1～31)がd日に対応する値が戻ります
+     */
+    int getHolidayMask(int month) {
+        return this.holidayMasks[month - 1];
+    }
+    /**
+     * 月内の祭日をビットで表した値を取得します
+     * @param month 月(1～12)をセット
+     * @return int ビットd(1～31)がd日に対応する値が戻ります
+     */
+    int getNamedHolidayMask(int month) {
+        return this.namedMasks[month - 1];
+    }
+    /**
+     * 祝日IDの配列の複製を取得します
+     * @return byte[] 通日(1月1日 = 0)を添字とした祝日IDの配列が戻ります
+     */
+    byte[] toIdArray() {
+        return this.ids.clone();
+    }
+    /**
+     * 年の日数を取得します
+     * @return int 365又は366が戻ります
+     */
+    int length() {
+        return this.ids.length;
+    }
+    /**
+     * 年内の祝日数を取得します
+     * @return int 祝日数が戻ります
+     */
+    int getHolidayCount() {
+        return this.holidayDays.length;
+    }
+    /**
+     * 索引から祝日の通日を取得します
+     * @param index 索引(0～getHolidayCount()-1)をセット
+     * @return int 通日(1月1日 = 0)が戻ります
+     */
+    int getHolidayDay(int index) {
+        return this.holidayDays[index];
+    }
+    /**
+     * 指定した通日以降で最初の祝日の索引を二分探索で取得します
+     * @param dayOfYear 通日(1月1日 = 0)をセット
+     * @return int 索引が戻ります(該当が無い場合、getHolidayCount()が戻ります)
+     */
+    int indexOf(int dayOfYear) {
+        int low = 0;
+        int high = this.holidayDays.length;
+        while ( low < high ) {
+            int mid = ( low + high ) >>> 1;
+            if ( this.holidayDays[mid] < dayOfYear ) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
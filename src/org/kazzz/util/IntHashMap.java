@@ -0,0 +1,253 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.util;
+
+import java.util.Arrays;
+
+/**
+ * intをキーとするハッシュマップを提供します
+ * <pre>
+ *  キーをIntegerにボクシングせず、キーと値を平行配列で保持する
+ *  オープンアドレス法(線形探索)のマップです。エントリのオブジェクトも生成しません。
+ *  日付キー(DateKey)や通算日をキーとするイベントの索引等に使用します。
+ *  配列の長さは2の冪で、使用率が1/2を超えると倍に拡張します。
+ *  削除は後続のエントリを詰め直すので、削除済みの印は残りません。
+ *  キー0は配列の空きを示す値と重なるので、配列の外で保持します。
+ *  スレッドセーフではありません。
+ * </pre>
+ * @param <V> 値の型
+ * @author Kazzz.
+ * @since JDK1.5 Android Level 4
+ *
+ */
+public class IntHashMap<V> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] keys;
+    private Object[] values;
+    private int size;     // 配列内のエントリ数 (キー0を含まない)
+    private int mask;
+    private int threshold;
+    private boolean hasZeroKey;
+    private Object zeroValue;
+
+    /**
+     * コンストラクタ
+     */
+    public IntHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+    /**
+     * コンストラクタ
+     * @param expectedSize 格納するエントリ数の見込みをセット
+     */
+    public IntHashMap(int expectedSize) {
+        if ( expectedSize < 0 ) {
+            throw new IllegalArgumentException("invalid size: " + expectedSize);
+        }
+        int capacity = 4;
+        while ( capacity / 2 < expectedSize ) {
+            capacity <<= 1;
+        }
+        this.allocate(capacity);
+    }
+    /**
+     * エントリ数を取得します
+     * @return int エントリ数が戻ります
+     */
+    public int size() {
+        return this.hasZeroKey ? this.size + 1 : this.size;
+    }
+    /**
+     * エントリが無いか否かを判定します
+     * @return boolean エントリが無い場合trueが戻ります
+     */
+    public boolean isEmpty() {
+        return this.size() == 0;
+    }
+    /**
+     * 値を取得します
+     * @param key キーをセット
+     * @return V 値が戻ります(キーが無い場合、nullが戻ります)
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        if ( key == 0 ) {
+            return (V)this.zeroValue;
+        }
+        int i = this.indexOf(key);
+        return i < 0 ? null : (V)this.values[i];
+    }
+    /**
+     * キーが含まれるか否かを判定します
+     * @param key キーをセット
+     * @return boolean キーが含まれる場合trueが戻ります
+     */
+    public boolean containsKey(int key) {
+        return key == 0 ? this.hasZeroKey : this.indexOf(key) >= 0;
+    }
+    /**
+     * 値を設定します
+     * @param key キーをセット
+     * @param value 値をセット
+     * @return V 以前の値が戻ります(キーが無かった場合、nullが戻ります)
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        if ( key == 0 ) {
+            V old = (V)this.zeroValue;
+            this.zeroValue = value;
+            this.hasZeroKey = true;
+            return old;
+        }
+        int i = IntHashMap.hash(key) & this.mask;
+        while ( this.keys[i] != 0 ) {
+            if ( this.keys[i] == key ) {
+                V old = (V)this.values[i];
+                this.values[i] = value;
+                return old;
+            }
+            i = ( i + 1 ) & this.mask;
+        }
+        this.keys[i] = key;
+        this.values[i] = value;
+        if ( ++this.size > this.threshold ) {
+            this.rehash(this.keys.length << 1);
+        }
+        return null;
+    }
+    /**
+     * エントリを削除します
+     * @param key キーをセット
+     * @return V 削除した値が戻ります(キーが無かった場合、nullが戻ります)
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        if ( key == 0 ) {
+            V old = (V)this.zeroValue;
+            this.zeroValue = null;
+            this.hasZeroKey = false;
+            return old;
+        }
+        int i = this.indexOf(key);
+        if ( i < 0 ) {
+            return null;
+        }
+        V old = (V)this.values[i];
+        this.size--;
+        //後続のエントリの内、本来の位置が空いた位置より前(循環)のものを詰める
+        int gap = i;
+        int j = i;
+        while ( true ) {
+            j = ( j + 1 ) & this.mask;
+            int k = this.keys[j];
+            if ( k == 0 ) {
+                break;
+            }
+            int home = IntHashMap.hash(k) & this.mask;
+            if ( ( ( j - home ) & this.mask ) >= ( ( j - gap ) & this.mask ) ) {
+                this.keys[gap] = k;
+                this.values[gap] = this.values[j];
+                gap = j;
+            }
+        }
+        this.keys[gap] = 0;
+        this.values[gap] = null;
+        return old;
+    }
+    /**
+     * 全てのエントリを削除します
+     */
+    public void clear() {
+        Arrays.fill(this.keys, 0);
+        Arrays.fill(this.values, null);
+        this.size = 0;
+        this.hasZeroKey = false;
+        this.zeroValue = null;
+    }
+    /**
+     * キーの配列を取得します
+     * @return int[] キーの配列(順不同)が戻ります
+     */
+    public int[] keys() {
+        int[] result = new int[this.size()];
+        int n = 0;
+        if ( this.hasZeroKey ) {
+            result[n++] = 0;
+        }
+        for ( int k : this.keys ) {
+            if ( k != 0 ) {
+                result[n++] = k;
+            }
+        }
+        return result;
+    }
+    /**
+     * キーの配列上の位置を取得します
+     * @param key キー(0以外)をセット
+     * @return int 位置が戻ります(キーが無い場合、-1が戻ります)
+     */
+    private int indexOf(int key) {
+        int i = IntHashMap.hash(key) & this.mask;
+        int k;
+        while ( ( k = this.keys[i] ) != 0 ) {
+            if ( k == key ) {
+                return i;
+            }
+            i = ( i + 1 ) & this.mask;
+        }
+        return -1;
+    }
+    /**
+     * 配列を指定の長さで確保します
+     * @param capacity 配列の長さ(2の冪)をセット
+     */
+    private void allocate(int capacity) {
+        this.keys = new int[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+        this.threshold = capacity / 2;
+    }
+    /**
+     * 配列を拡張して全エントリを再配置します
+     * @param capacity 新しい配列の長さ(2の冪)をセット
+     */
+    private void rehash(int capacity) {
+        int[] oldKeys = this.keys;
+        Object[] oldValues = this.values;
+        this.allocate(capacity);
+        for ( int i = 0; i < oldKeys.length; i++ ) {
+            int k = oldKeys[i];
+            if ( k != 0 ) {
+                int j = IntHashMap.hash(k) & this.mask;
+                while ( this.keys[j] != 0 ) {
+                    j = ( j + 1 ) & this.mask;
+                }
+                this.keys[j] = k;
+                this.values[j] = oldValues[i];
+            }
+        }
+    }
+    /**
+     * キーのハッシュ値を求めます
+     * <pre>
+     *  日付キーや通算日は連続した値に偏るので、乗算で上位ビットに拡散して
+     *  下位ビットに折り返します。
+     * </pre>
+     * @param key キーをセット
+     * @return int ハッシュ値が戻ります
+     */
+    private static int hash(int key) {
+        int h = key * 0x9e3779b9;
+        return h ^ ( h >>> 16 );
+    }
+}
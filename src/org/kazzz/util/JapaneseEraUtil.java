@@ -0,0 +1,197 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.util;
+
+/**
+ * 和暦(元号)への変換と書式化の機能を提供します
+ * <pre>
+ *  元号の開始日はクラスのロード時に通算日の昇順の配列にしておき、二分探索で引きます。
+ *  書式化は呼び出し側のStringBuilderに直接追加するので、
+ *  java.textの書式オブジェクトや中間の文字列は生成しません。
+ *  明治より前の日付は元号が無いものとして、西暦で書式化します。
+ * </pre>
+ * @author Kazzz.
+ * @since JDK1.5 Android Level 4
+ *
+ */
+public final class JapaneseEraUtil {
+    private JapaneseEraUtil() {}
+
+    /** 元号が無い(明治より前)ことを示す値 */
+    public static final int UNKNOWN = -1;
+    /** 明治 */
+    public static final int MEIJI = 0;
+    /** 大正 */
+    public static final int TAISHO = 1;
+    /** 昭和 */
+    public static final int SHOWA = 2;
+    /** 平成 */
+    public static final int HEISEI = 3;
+    /** 令和 */
+    public static final int REIWA = 4;
+
+    private static final String[] names = { "明治", "大正", "昭和", "平成", "令和" };
+    private static final String[] englishNames = { "Meiji", "Taisho", "Showa", "Heisei", "Reiwa" };
+    private static final char[] initials = { 'M', 'T', 'S', 'H', 'R' };
+    // 元号の開始日 (年, 月, 日)
+    private static final int[][] boundaries = {
+        { 1868, 1, 25 },
+        { 1912, 7, 30 },
+        { 1926, 12, 25 },
+        { 1989, 1, 8 },
+        { 2019, 5, 1 },
+    };
+    // 元号の開始日の通算日 (昇順)
+    private static final int[] startEpochDays = new int[boundaries.length];
+    static {
+        for ( int i = 0; i < boundaries.length; i++ ) {
+            startEpochDays[i] = DateUtil.toEpochDay(
+                    boundaries[i][0], boundaries[i][1], boundaries[i][2]);
+        }
+    }
+
+    /**
+     * 元号を取得します
+     * @param epochDay 1970/1/1を0とした通算日をセット
+     * @return int 元号(MEIJI～REIWA)が戻ります(明治より前の場合、UNKNOWNが戻ります)
+     */
+    public static int getEra(int epochDay) {
+        int low = 0;
+        int high = startEpochDays.length;
+        while ( low < high ) {
+            int mid = ( low + high ) >>> 1;
+            if ( startEpochDays[mid] <= epochDay ) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low - 1;
+    }
+    /**
+     * 元号を取得します
+     * @param year 年をセット
+     * @param month 月(1～12)をセット
+     * @param day 日をセット
+     * @return int 元号(MEIJI～REIWA)が戻ります(明治より前の場合、UNKNOWNが戻ります)
+     */
+    public static int getEra(int year, int month, int day) {
+        return JapaneseEraUtil.getEra(DateUtil.toEpochDay(year, month, day));
+    }
+    /**
+     * 和暦の年を取得します
+     * @param era 元号をセット
+     * @param year 西暦の年をセット
+     * @return int 和暦の年(元年 = 1)が戻ります
+     */
+    public static int getEraYear(int era, int year) {
+        if ( era < MEIJI || era > REIWA ) {
+            throw new IllegalArgumentException("invalid era: " + era);
+        }
+        return year - boundaries[era][0] + 1;
+    }
+    /**
+     * 元号の名前を取得します
+     * @param era 元号をセット
+     * @return String 元号の名前(令和等)が戻ります(UNKNOWNの場合、空文字が戻ります)
+     */
+    public static String getName(int era) {
+        return era >= MEIJI && era <= REIWA ? names[era] : "";
+    }
+    /**
+     * 元号の英語名を取得します
+     * @param era 元号をセット
+     * @return String 元号の英語名(Reiwa等)が戻ります(UNKNOWNの場合、空文字が戻ります)
+     */
+    public static String getEnglishName(int era) {
+        return era >= MEIJI && era <= REIWA ? englishNames[era] : "";
+    }
+    /**
+     * 和暦の年(令和元年、令和6年等)を追加します
+     * @param sb 追加先をセット
+     * @param epochDay 1970/1/1を0とした通算日をセット
+     * @return StringBuilder 追加先が戻ります
+     */
+    public static StringBuilder appendYear(StringBuilder sb, int epochDay) {
+        int era = JapaneseEraUtil.getEra(epochDay);
+        int year = DateUtil.getYear(epochDay);
+        if ( era == UNKNOWN ) {
+            return sb.append(year).append('年');
+        }
+        sb.append(names[era]);
+        int eraYear = year - boundaries[era][0] + 1;
+        if ( eraYear == 1 ) {
+            sb.append('元');
+        } else {
+            sb.append(eraYear);
+        }
+        return sb.append('年');
+    }
+    /**
+     * 和暦の年月(令和6年5月等)を追加します
+     * <pre>
+     *  元号は月の初日のものを使用します。(1989年1月は昭和64年1月)
+     *  カレンダのヘッダの表示に使用します。
+     * </pre>
+     * @param sb 追加先をセット
+     * @param year 西暦の年をセット
+     * @param month 月(1～12)をセット
+     * @return StringBuilder 追加先が戻ります
+     */
+    public static StringBuilder appendYearMonth(StringBuilder sb, int year, int month) {
+        JapaneseEraUtil.appendYear(sb, DateUtil.toEpochDay(year, month, 1));
+        return sb.append(month).append('月');
+    }
+    /**
+     * 和暦の日付(令和6年5月3日等)を追加します
+     * @param sb 追加先をセット
+     * @param epochDay 1970/1/1を0とした通算日をセット
+     * @return StringBuilder 追加先が戻ります
+     */
+    public static StringBuilder appendDate(StringBuilder sb, int epochDay) {
+        int ymd = DateUtil.toYmd(epochDay);
+        JapaneseEraUtil.appendYear(sb, epochDay);
+        return sb.append(( ymd / 100 ) % 100).append('月').append(ymd % 100).append('日');
+    }
+    /**
+     * 和暦の日付を略式(R6.05.03等)で追加します
+     * <pre>
+     *  明治より前の日付は西暦(1850.05.03等)で追加します。
+     * </pre>
+     * @param sb 追加先をセット
+     * @param epochDay 1970/1/1を0とした通算日をセット
+     * @return StringBuilder 追加先が戻ります
+     */
+    public static StringBuilder appendShortDate(StringBuilder sb, int epochDay) {
+        int era = JapaneseEraUtil.getEra(epochDay);
+        int ymd = DateUtil.toYmd(epochDay);
+        int year = ymd / 10000;
+        if ( era == UNKNOWN ) {
+            sb.append(year);
+        } else {
+            sb.append(initials[era]).append(year - boundaries[era][0] + 1);
+        }
+        sb.append('.');
+        JapaneseEraUtil.appendTwoDigits(sb, ( ymd / 100 ) % 100);
+        sb.append('.');
+        return JapaneseEraUtil.appendTwoDigits(sb, ymd % 100);
+    }
+    /**
+     * 数値を2桁で追加します
+     * @param sb 追加先をセット
+     * @param n 数値(0～99)をセット
+     * @return StringBuilder 追加先が戻ります
+     */
+    private static StringBuilder appendTwoDigits(StringBuilder sb, int n) {
+        return sb.append((char)( '0' + n / 10 )).append((char)( '0' + n % 10 ));
+    }
+}
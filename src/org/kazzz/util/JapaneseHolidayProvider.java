@@ -0,0 +1,73 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.util;
+
+import java.util.Locale;
+
+/**
+ * 国民の祝日(HolidayUtil)を祝日の定義として提供します
+ * <pre>
+ *  祝日IDはHolidayIdの値そのままです。
+ *  HolidayUtil.setDatabaseで祝日データベースを変更した場合、HolidayCalendar、
+ *  CompositeHolidayProviderは次に参照した時点で祝日テーブルと祝日IDを作り直します。
+ * </pre>
+ * @author Kazzz.
+ * @since JDK1.5 Android Level 4
+ *
+ */
+public final class JapaneseHolidayProvider implements HolidayProvider {
+    private static final JapaneseHolidayProvider instance = new JapaneseHolidayProvider();
+
+    private JapaneseHolidayProvider() {}
+
+    /**
+     * インスタンスを取得します
+     * @return JapaneseHolidayProvider インスタンスが戻ります
+     */
+    public static JapaneseHolidayProvider getInstance() {
+        return instance;
+    }
+    /* (non-Javadoc)
+     * @see org.kazzz.util.HolidayProvider#getHolidayIds(int)
+     */
+    @Override
+    public byte[] getHolidayIds(int year) {
+        if ( year < HolidayUtil.MIN_YEAR ) {
+            return new byte[DateUtil.lengthOfYear(year)];
+        }
+        if ( year > HolidayUtil.MAX_YEAR ) {
+            return HolidayUtil.buildYearTable(year).toIdArray();
+        }
+        return HolidayUtil.getYearTable(year).toIdArray();
+    }
+    /* (non-Javadoc)
+     * @see org.kazzz.util.HolidayProvider#getHolidayNameCount()
+     */
+    @Override
+    public int getHolidayNameCount() {
+        return HolidayUtil.getHolidayNameCount();
+    }
+    /* (non-Javadoc)
+     * @see org.kazzz.util.HolidayProvider#getHolidayName(int)
+     */
+    @Override
+    public String getHolidayName(int holidayId) {
+        return HolidayUtil.getHolidayNameById(holidayId);
+    }
+    /* (non-Javadoc)
+     * @see org.kazzz.util.HolidayProvider#getHolidayName(int, java.util.Locale)
+     */
+    @Override
+    public String getHolidayName(int holidayId, Locale locale) {
+        return HolidayId.getName(holidayId, locale);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.util;
+
+import static org.kazzz.util.HolidayId.*;
+import static org.kazzz.util.HolidayRule.*;
+
+import java.util.Calendar;
+
+/**
+ * 国民の祝日に関する法律(祝日法)の規則を定義します
+ * <pre>
+ *  法改正の際は、該当する規則の有効期間を閉じて新しい規則を追加します。
+ *  (2021年までの特別措置法による移動を含みます)
+ * </pre>
+ * @author Kazzz.
+ * @since JDK1.5 Android Level 4
+ *
+ */
+public final class JapaneseHolidayRules {
+    private JapaneseHolidayRules() {}
+
+    /**
+     * 祝日法の規則を生成します
+     * @return HolidayRuleSet 規則の集合が戻ります
+     */
+    public static HolidayRuleSet create() {
+        return new HolidayRuleSet()
+            .setEffectiveFrom(1948, 7, 20)                  // 祝日法施行
+            .setSubstituteHoliday(SUBSTITUTE_HOLIDAY, 1973, 4, 12)
+            .setSubstituteChainFrom(2007, 1, 1)             // 2005年改正
+            .setCitizensHoliday(CITIZENS_HOLIDAY, 1985, 12, 27)
+            // １月
+            .add(fixed(NEW_YEARS_DAY, 1, 1, 1948, FOREVER))
+            .add(fixed(COMING_OF_AGE_DAY, 1, 15, 1948, 1999))
+            .add(nthWeekday(COMING_OF_AGE_DAY, 1, 2, Calendar.MONDAY, 2000, FOREVER))
+            // ２月
+            .add(fixed(NATIONAL_FOUNDATION_DAY, 2, 11, 1967, FOREVER))
+            .add(oneOff(SHOWA_FUNERAL, 1989, 2, 24))
+            .add(fixed(EMPERORS_BIRTHDAY, 2, 23, 2020, FOREVER))
+            // ３月
+            .add(springEquinox(VERNAL_EQUINOX_DAY, 1948, FOREVER))
+            // ４月
+            .add(fixed(EMPERORS_BIRTHDAY, 4, 29, 1948, 1988))
+            .add(fixed(GREENERY_DAY, 4, 29, 1989, 2006))
+            .add(fixed(SHOWA_DAY, 4, 29, 2007, FOREVER))
+            .add(oneOff(AKIHITO_WEDDING, 1959, 4, 10))
+            // ５月
+            .add(oneOff(ENTHRONEMENT_DAY, 2019, 5, 1))
+            .add(fixed(CONSTITUTION_DAY, 5, 3, 1948, FOREVER))
+            .add(fixed(GREENERY_DAY, 5, 4, 2007, FOREVER))
+            .add(fixed(CHILDRENS_DAY, 5, 5, 1948, FOREVER))
+            // ６月
+            .add(oneOff(NARUHITO_WEDDING, 1993, 6, 9))
+            // ７月
+            .add(fixed(MARINE_DAY, 7, 20, 1996, 2002))
+            .add(nthWeekday(MARINE_DAY, 7, 3, Calendar.MONDAY, 2003, 2019))
+            .add(oneOff(MARINE_DAY, 2020, 7, 23))
+            .add(oneOff(MARINE_DAY, 2021, 7, 22))
+            .add(nthWeekday(MARINE_DAY, 7, 3, Calendar.MONDAY, 2022, FOREVER))
+            .add(oneOff(SPORTS_DAY, 2020, 7, 24))
+            .add(oneOff(SPORTS_DAY, 2021, 7, 23))
+            // ８月
+            .add(fixed(MOUNTAIN_DAY, 8, 11, 2016, 2019))
+            .add(oneOff(MOUNTAIN_DAY, 2020, 8, 10))
+            .add(oneOff(MOUNTAIN_DAY, 2021, 8, 8))
+            .add(fixed(MOUNTAIN_DAY, 8, 11, 2022, FOREVER))
+            // ９月
+            .add(autumnEquinox(AUTUMNAL_EQUINOX_DAY, 1948, FOREVER))
+            .add(fixed(RESPECT_FOR_THE_AGED_DAY, 9, 15, 1966, 2002))
+            .add(nthWeekday(RESPECT_FOR_THE_AGED_DAY, 9, 3, Calendar.MONDAY, 2003, FOREVER))
+            // １０月
+            .add(fixed(HEALTH_AND_SPORTS_DAY, 10, 10, 1966, 1999))
+            .add(nthWeekday(HEALTH_AND_SPORTS_DAY, 10, 2, Calendar.MONDAY, 2000, 2019))
+            .add(nthWeekday(SPORTS_DAY, 10, 2, Calendar.MONDAY, 2022, FOREVER))
+            .add(oneOff(ENTHRONEMENT_CEREMONY, 2019, 10, 22))
+            // １１月
+            .add(fixed(CULTURE_DAY, 11, 3, 1948, FOREVER))
+            .add(oneOff(ENTHRONEMENT_CEREMONY, 1990, 11, 12))
+            .add(fixed(LABOR_THANKSGIVING_DAY, 11, 23, 1948, FOREVER))
+            // １２月
+            .add(fixed(EMPERORS_BIRTHDAY, 12, 23, 1989, 2018));
+    }
+}
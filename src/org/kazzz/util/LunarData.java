@@ -0,0 +1,65 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.util;
+
+/**
+ * 生成済みの旧暦の月のデータを提供します
+ * <pre>
+ *  このファイルはLunarTableGeneratorが生成したものです。直接編集しないでください。
+ *  (tools/build.xml の generate-lunar で再生成する)
+ * </pre>
+ * @author Kazzz.
+ * @since JDK1.5 Android Level 4
+ *
+ */
+final class LunarData {
+    private LunarData() {}
+
+    /** 最初の月の初日(通算日) */
+    static final int FIRST_EPOCH_DAY = -8056;
+    /** 最初の月の番号 */
+    static final int FIRST_MONTH = 11;
+    /** 収録している月数 */
+    static final int COUNT = 2512;
+    /** 1文字に詰めた月数 */
+    static final int MONTHS_PER_CHAR = 8;
+
+    /** 月毎に2ビット[閏月 << 1 | 大の月] (下位ビットから順に) */
+    static final String PACKED =
+        "\u1115\u5444\u1844\u1451\u4441\u1114\u1111\u4447\u4504\u1051\u5144\u10c1"
+        + "\u1151\u4441\u0445\u4519\u4411\u1144\u1111\u4651\u4444\u1114\u1441\u8445"
+        + "\u1511\u4411\u4454\u5410\u4194\u1450\u1105\u4451\u4446\u1144\u1411\u4451"
+        + "\u5190\u4111\u4544\u4104\u9145\u4504\u1045\u4544\u0644\u1145\u1411\u4451"
+        + "\ud104\u1114\u1444\u1045\u1514\u5061\u0454\u5441\u0414\u1459\u4411\u4514"
+        + "\u5104\u1164\u4441\u0451\u4511\u2411\u4545\u4410\u4145\u4510\u4119\u4544"
+        + "\u1104\u9145\u4441\u4511\u5110\u4114\u5458\u4104\u1454\u5104\u1854\u5444"
+        + "\u1044\u1451\u4441\u1116\u1111\u4145\u6444\u1051\u4544\u1041\u0545\u4449"
+        + "\u0445\u4511\u4411\u4744\u1110\u4445\u4444\u1194\u5441\u0444\u1451\u4611"
+        + "\u4454\u5110\u4111\u5144\u1106\u4451\u4444\u1114\u1191\u4445\u4510\u4111"
+        + "\u4546\u1104\u1115\u1504\u1245\u4514\u5041\u1144\u9111\u4451\u5104\u1114"
+        + "\u5444\u1046\u1151\u5041\u0454\u5143\u0411\u1151\u4411\u4651\u5104\u1114"
+        + "\u1441\u2445\u4511\u0411\u4545\u4610\u4115\u1510\u4105\uc514\u1104\u1145"
+        + "\u4441\u4451\u5130\u4114\u5444\u4104\u1153\u5104\u1051\u5144\u10c4\u1151"
+        + "\u4441\u0511\u7111\u4144\u1444\u1045\u1514\u1061\u0515\u1441\u8445\u1511"
+        + "\u4411\u4514\u1110\u4465\u4444\u1111\u5111\u2414\u5151\u4410\u4151\u5190"
+        + "\u4111\u5144\u1104\u6451\u4444\u1114\u1111\u4445\u1518\u4111\u4514\u1104"
+        + "\u1915\u5444\u1044\u1514\u4461\u1114\u1111\u4445\u4d04\u1111\u5144\u1044"
+        + "\u1151\u5049\u0445\u5141\u2411\u1145\u1411\u4451\u4444\u111c\u1441\u0445"
+        + "\u1511\u4611\u4514\u1410\u4115\u5450\u4106\u4454\u5104\u1914\u1441\u4451"
+        + "\u4510\u4111\u5146\u4104\u1151\u5104\u1245\u4544\u1044\u1145\u4461\u0451"
+        + "\u5111\u4114\u1644\u1045\u1514\u1041\u8455\u5441\u0414\u1451\u4411\u44d4"
+        + "\u5110\u4144\u4444\u1113\u4511\u0411\u5145\u4490\u4145\u4510\u4111\uc544"
+        + "\u1104\u1145\u4444\u1911\u5111\u4444\u1450\uc111\u1454\u5104\u1114\u5444"
+        + "\u10c4\u1451\u4441\u1114\u1911\u4445\u4444\u1111\u45c4\u1044\u1145\u4441"
+        + "\u2445\u4541\u0411\u0545\u1411\u4465\u4444\u1111\u5141\u0464\u1451\u4411"
+        + "\u4454\u5430";
+}
@@ -0,0 +1,150 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.util;
+
+/**
+ * 六曜(大安、仏滅等)と旧暦の月日を求める機能を提供します
+ * <pre>
+ *  旧暦の月は生成済みの月の表(LunarData)から求めるので、天文計算は行いません。
+ *  表はクラスのロード時に月の初日の配列に展開し、日付から月の添字を
+ *  平均朔望月で見積もって求めるので、参照は二分探索も不要な定数時間です。
+ *  六曜は(旧暦の月 + 旧暦の日) % 6 で決まります。(閏月は同じ番号の月として扱う)
+ *  収録範囲はHolidayUtil.MIN_YEAR～HolidayUtil.MAX_YEARです。
+ * </pre>
+ * @author Kazzz.
+ * @since JDK1.5 Android Level 4
+ *
+ */
+public final class RokuyoUtil {
+    private RokuyoUtil() {}
+
+    /** 六曜が不明(収録範囲外)であることを示す値 */
+    public static final int UNKNOWN = -1;
+    /** 大安 */
+    public static final int TAIAN = 0;
+    /** 赤口 */
+    public static final int SHAKKOU = 1;
+    /** 先勝 */
+    public static final int SENSHOU = 2;
+    /** 友引 */
+    public static final int TOMOBIKI = 3;
+    /** 先負 */
+    public static final int SENBU = 4;
+    /** 仏滅 */
+    public static final int BUTSUMETSU = 5;
+
+    private static final String[] names = { "大安", "赤口", "先勝", "友引", "先負", "仏滅" };
+    /** 朔望月の平均日数 */
+    private static final double SYNODIC_MONTH = 29.530588861;
+
+    // 月の初日の通算日 (末尾は最後の月の翌日)
+    private static final int[] monthStarts = new int[LunarData.COUNT + 1];
+    // 月の番号 (閏月は負数)
+    private static final byte[] monthNumbers = new byte[LunarData.COUNT];
+    static {
+        int start = LunarData.FIRST_EPOCH_DAY;
+        int number = LunarData.FIRST_MONTH;
+        for ( int i = 0; i < LunarData.COUNT; i++ ) {
+            int flags = LunarData.PACKED.charAt(i / LunarData.MONTHS_PER_CHAR)
+                >> ( ( i % LunarData.MONTHS_PER_CHAR ) * 2 );
+            boolean leap = ( flags & 2 ) != 0;
+            if ( i > 0 && !leap ) {
+                number = number % 12 + 1;
+            }
+            monthStarts[i] = start;
+            monthNumbers[i] = (byte)( leap ? -number : number );
+            start += ( flags & 1 ) != 0 ? 30 : 29;
+        }
+        monthStarts[LunarData.COUNT] = start;
+    }
+
+    /**
+     * 六曜を取得します
+     * @param epochDay 1970/1/1を0とした通算日をセット
+     * @return int 六曜(TAIAN～BUTSUMETSU)が戻ります(収録範囲外の場合、UNKNOWNが戻ります)
+     */
+    public static int getRokuyo(int epochDay) {
+        int i = RokuyoUtil.indexOf(epochDay);
+        if ( i < 0 ) {
+            return UNKNOWN;
+        }
+        int month = Math.abs(monthNumbers[i]);
+        int day = epochDay - monthStarts[i] + 1;
+        return ( month + day ) % 6;
+    }
+    /**
+     * 六曜を取得します
+     * @param year 年をセット
+     * @param month 月(1～12)をセット
+     * @param day 日をセット
+     * @return int 六曜(TAIAN～BUTSUMETSU)が戻ります(収録範囲外の場合、UNKNOWNが戻ります)
+     */
+    public static int getRokuyo(int year, int month, int day) {
+        return RokuyoUtil.getRokuyo(DateUtil.toEpochDay(year, month, day));
+    }
+    /**
+     * 六曜の名前を取得します
+     * @param rokuyo 六曜をセット
+     * @return String 六曜の名前が戻ります(UNKNOWNの場合、空文字が戻ります)
+     */
+    public static String getName(int rokuyo) {
+        return rokuyo >= 0 && rokuyo < names.length ? names[rokuyo] : "";
+    }
+    /**
+     * 旧暦の月を取得します
+     * @param epochDay 1970/1/1を0とした通算日をセット
+     * @return int 月(1～12)が戻ります(収録範囲外の場合、0が戻ります)
+     */
+    public static int getLunarMonth(int epochDay) {
+        int i = RokuyoUtil.indexOf(epochDay);
+        return i < 0 ? 0 : Math.abs(monthNumbers[i]);
+    }
+    /**
+     * 旧暦の日を取得します
+     * @param epochDay 1970/1/1を0とした通算日をセット
+     * @return int 日(1～30)が戻ります(収録範囲外の場合、0が戻ります)
+     */
+    public static int getLunarDay(int epochDay) {
+        int i = RokuyoUtil.indexOf(epochDay);
+        return i < 0 ? 0 : epochDay - monthStarts[i] + 1;
+    }
+    /**
+     * 旧暦の閏月か否かを判定します
+     * @param epochDay 1970/1/1を0とした通算日をセット
+     * @return boolean 閏月の場合trueが戻ります
+     */
+    public static boolean isLeapMonth(int epochDay) {
+        int i = RokuyoUtil.indexOf(epochDay);
+        return i >= 0 && monthNumbers[i] < 0;
+    }
+    /**
+     * 通算日を含む月の添字を取得します
+     * <pre>
+     *  平均朔望月から見積もった添字は実際の月と高々1つしかずれないので、
+     *  前後の月の初日と比べて補正します。
+     * </pre>
+     * @param epochDay 1970/1/1を0とした通算日をセット
+     * @return int 添字が戻ります(収録範囲外の場合、-1が戻ります)
+     */
+    private static int indexOf(int epochDay) {
+        if ( epochDay < monthStarts[0] || epochDay >= monthStarts[LunarData.COUNT] ) {
+            return -1;
+        }
+        int i = (int)( ( epochDay - monthStarts[0] ) / SYNODIC_MONTH );
+        if ( i >= LunarData.COUNT ) {
+            i = LunarData.COUNT - 1;
+        }
+        while ( epochDay < monthStarts[i] ) i--;
+        while ( epochDay >= monthStarts[i + 1] ) i++;
+        return i;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.util;
+
+import java.util.Locale;
+
+/**
+ * 祝日の規則(HolidayRuleSet)と祝日名の表から祝日の定義を提供します
+ * <pre>
+ *  会社の休業日等、独自の休日の定義に使用します。
+ *  例:
+ *   new RuleSetHolidayProvider(new HolidayRuleSet()
+ *       .add(HolidayRule.fixed(1, 12, 29, 2000, HolidayRule.FOREVER))
+ *       .add(HolidayRule.fixed(1, 12, 30, 2000, HolidayRule.FOREVER))
+ *       , new String[] { "", "年末休業日" });
+ * </pre>
+ * @author Kazzz.
+ * @since JDK1.5 Android Level 4
+ *
+ */
+public class RuleSetHolidayProvider implements HolidayProvider {
+    protected final HolidayRuleSet rules;
+    protected final String[] names;
+
+    /**
+     * コンストラクタ
+     * @param rules 祝日の規則をセット
+     * @param names 祝日IDを添字とした祝日名の表(0番目は空文字)をセット
+     */
+    public RuleSetHolidayProvider(HolidayRuleSet rules, String[] names) {
+        if ( rules == null || names == null || names.length == 0 ) {
+            throw new IllegalArgumentException("rules and names are required");
+        }
+        this.rules = rules;
+        this.names = names.clone();
+    }
+    /* (non-Javadoc)
+     * @see org.kazzz.util.HolidayProvider#getHolidayIds(int)
+     */
+    @Override
+    public byte[] getHolidayIds(int year) {
+        return this.rules.compile(year);
+    }
+    /* (non-Javadoc)
+     * @see org.kazzz.util.HolidayProvider#getHolidayNameCount()
+     */
+    @Override
+    public int getHolidayNameCount() {
+        return this.names.length;
+    }
+    /* (non-Javadoc)
+     * @see org.kazzz.util.HolidayProvider#getHolidayName(int)
+     */
+    @Override
+    public String getHolidayName(int holidayId) {
+        return this.names[holidayId];
+    }
+    /* (non-Javadoc)
+     * @see org.kazzz.util.HolidayProvider#getHolidayName(int, java.util.Locale)
+     */
+    @Override
+    public String getHolidayName(int holidayId, Locale locale) {
+        return this.names[holidayId];
+    }
+}
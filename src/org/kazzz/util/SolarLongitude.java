@@ -0,0 +1,326 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.util;
+
+/**
+ * 太陽の視黄経を求める機能を提供します
+ * <pre>
+ *  視黄経はVSOP87の主要項に章動、光行差を加えて求め、精度は1秒角程度です。
+ *  (二十四節気、春分/秋分の時刻の計算に使用します)
+ *  時刻はユリウス日(力学時)で扱い、日付は日本標準時で求めます。
+ * </pre>
+ * @author Kazzz.
+ * @since JDK1.5 Android Level 4
+ *
+ */
+public final class SolarLongitude {
+    private SolarLongitude() {}
+
+    /** 1970/1/1 0:00(UT)のユリウス日 */
+    private static final double JD_EPOCH = 2440587.5;
+    /** J2000.0(2000/1/1 12:00 TT)のユリウス日 */
+    private static final double JD_J2000 = 2451545.0;
+    /** 回帰年の日数 */
+    private static final double TROPICAL_YEAR = 365.242189;
+    /** 日本標準時の時差(日) */
+    private static final double JST_OFFSET = 9.0 / 24.0;
+    private static final double RAD = Math.PI / 180.0;
+
+    // 地球の日心黄経のVSOP87の級数 (振幅 * 1e-8, 位相, 角速度) τ はJ2000.0からのユリウス千年
+    // (Meeus「Astronomical Algorithms」付録の主要項、精度は1秒角程度)
+    private static final double[][] L0 = {
+        { 175347046, 0, 0 },
+        { 3341656, 4.6692568, 6283.0758500 },
+        { 34894, 4.62610, 12566.15170 },
+        { 3497, 2.7441, 5753.3849 },
+        { 3418, 2.8289, 3.5231 },
+        { 3136, 3.6277, 77713.7715 },
+        { 2676, 4.4181, 7860.4194 },
+        { 2343, 6.1352, 3930.2097 },
+        { 1324, 0.7425, 11506.7698 },
+        { 1273, 2.0371, 529.6910 },
+        { 1199, 1.1096, 1577.3435 },
+        { 990, 5.233, 5884.927 },
+        { 902, 2.045, 26.298 },
+        { 857, 3.508, 398.149 },
+        { 780, 1.179, 5223.694 },
+        { 753, 2.533, 5507.553 },
+        { 505, 4.583, 18849.228 },
+        { 492, 4.205, 775.523 },
+        { 357, 2.920, 0.067 },
+        { 317, 5.849, 11790.629 },
+        { 284, 1.899, 796.298 },
+        { 271, 0.315, 10977.079 },
+        { 243, 0.345, 5486.778 },
+        { 206, 4.806, 2544.314 },
+        { 205, 1.869, 5573.143 },
+        { 202, 2.458, 6069.777 },
+        { 156, 0.833, 213.299 },
+        { 132, 3.411, 2942.463 },
+        { 126, 1.083, 20.775 },
+        { 115, 0.645, 0.980 },
+        { 103, 0.636, 4694.003 },
+        { 102, 0.976, 15720.839 },
+        { 102, 4.267, 7.114 },
+        { 99, 6.21, 2146.17 },
+        { 98, 0.68, 155.42 },
+        { 86, 5.98, 161000.69 },
+        { 85, 1.30, 6275.96 },
+        { 85, 3.67, 71430.70 },
+        { 80, 1.81, 17260.15 },
+        { 79, 3.04, 12036.46 },
+        { 75, 1.76, 5088.63 },
+        { 74, 3.50, 3154.69 },
+        { 74, 4.68, 801.82 },
+        { 70, 0.83, 9437.76 },
+        { 62, 3.98, 8827.39 },
+        { 61, 1.82, 7084.90 },
+        { 57, 2.78, 6286.60 },
+        { 56, 4.39, 14143.50 },
+        { 56, 3.47, 6279.55 },
+        { 52, 0.19, 12139.55 },
+        { 52, 1.33, 1748.02 },
+        { 51, 0.28, 5856.48 },
+        { 49, 0.49, 1194.45 },
+        { 41, 5.37, 8429.24 },
+        { 41, 2.40, 19651.05 },
+        { 39, 6.17, 10447.39 },
+        { 37, 6.04, 10213.29 },
+        { 37, 2.57, 1059.38 },
+        { 36, 1.71, 2352.87 },
+        { 36, 1.78, 6812.77 },
+        { 33, 0.59, 17789.85 },
+        { 30, 0.44, 83996.85 },
+        { 30, 2.74, 1349.87 },
+        { 25, 3.16, 4690.48 },
+    };
+    private static final double[][] L1 = {
+        { 628331966747.0, 0, 0 },
+        { 206059, 2.678235, 6283.075850 },
+        { 4303, 2.6351, 12566.1517 },
+        { 425, 1.590, 3.523 },
+        { 119, 5.796, 26.298 },
+        { 109, 2.966, 1577.344 },
+        { 93, 2.59, 18849.23 },
+        { 72, 1.14, 529.69 },
+        { 68, 1.87, 398.15 },
+        { 67, 4.41, 5507.55 },
+        { 59, 2.89, 5223.69 },
+        { 56, 2.17, 155.42 },
+        { 45, 0.40, 796.30 },
+        { 36, 0.47, 775.52 },
+        { 29, 2.65, 7.11 },
+        { 21, 5.34, 0.98 },
+        { 19, 1.85, 5486.78 },
+        { 19, 4.97, 213.30 },
+        { 17, 2.99, 6275.96 },
+        { 16, 0.03, 2544.31 },
+        { 16, 1.43, 2146.17 },
+        { 15, 1.21, 10977.08 },
+        { 12, 2.83, 1748.02 },
+        { 12, 3.26, 5088.63 },
+        { 12, 5.27, 1194.45 },
+        { 12, 2.08, 4694.00 },
+        { 11, 0.77, 553.57 },
+        { 10, 1.30, 6286.60 },
+        { 10, 4.24, 1349.87 },
+        { 9, 2.70, 242.73 },
+        { 9, 5.64, 951.72 },
+        { 8, 5.30, 2352.87 },
+        { 6, 2.65, 9437.76 },
+        { 6, 4.67, 4690.48 },
+    };
+    private static final double[][] L2 = {
+        { 52919, 0, 0 },
+        { 8720, 1.0721, 6283.0758 },
+        { 309, 0.867, 12566.152 },
+        { 27, 0.05, 3.52 },
+        { 16, 5.19, 26.30 },
+        { 16, 3.68, 155.42 },
+        { 10, 0.76, 18849.23 },
+        { 9, 2.06, 77713.77 },
+        { 7, 0.83, 775.52 },
+        { 5, 4.66, 1577.34 },
+        { 4, 1.03, 7.11 },
+        { 4, 3.44, 5573.14 },
+        { 3, 5.14, 796.30 },
+        { 3, 6.05, 5507.55 },
+        { 3, 1.19, 242.73 },
+        { 3, 6.12, 529.69 },
+        { 3, 0.31, 398.15 },
+        { 3, 2.28, 553.57 },
+        { 2, 4.38, 5223.69 },
+        { 2, 3.75, 0.98 },
+    };
+    private static final double[][] L3 = {
+        { 289, 5.844, 6283.076 },
+        { 35, 0, 0 },
+        { 17, 5.49, 12566.15 },
+        { 3, 5.20, 155.42 },
+        { 1, 4.72, 3.52 },
+        { 1, 5.30, 18849.23 },
+        { 1, 5.97, 242.73 },
+    };
+    private static final double[][] L4 = {
+        { 114, 3.142, 0 },
+        { 8, 4.13, 6283.08 },
+        { 1, 3.84, 12566.15 },
+    };
+    private static final double[][] L5 = {
+        { 1, 3.14, 0 },
+    };
+    // 地球と太陽の距離(動径)の主要項 (光行差の補正に使用する)
+    private static final double[][] R0 = {
+        { 100013989, 0, 0 },
+        { 1670700, 3.0984635, 6283.0758500 },
+        { 13956, 3.05525, 12566.15170 },
+        { 3084, 5.1985, 77713.7715 },
+        { 1628, 1.1739, 5753.3849 },
+        { 1576, 2.8469, 7860.4194 },
+    };
+    private static final double[][] R1 = {
+        { 103019, 1.107490, 6283.075850 },
+        { 1721, 1.0644, 12566.1517 },
+    };
+
+    /**
+     * 太陽の視黄経を取得します
+     * <pre>
+     *  VSOP87の地球の日心黄経から地心黄経を求め、FK5への補正、章動(主要項)、
+     *  光行差を加えます。精度は1秒角程度(時刻で30秒程度)です。
+     * </pre>
+     * @param jd ユリウス日(力学時)をセット
+     * @return double 視黄経(0以上360未満の度)が戻ります
+     */
+    public static double getLongitude(double jd) {
+        double t = ( jd - JD_J2000 ) / 36525.0;
+        double tau = t / 10.0;
+        double l = SolarLongitude.series(L0, tau)
+            + tau * ( SolarLongitude.series(L1, tau)
+            + tau * ( SolarLongitude.series(L2, tau)
+            + tau * ( SolarLongitude.series(L3, tau)
+            + tau * ( SolarLongitude.series(L4, tau)
+            + tau * SolarLongitude.series(L5, tau) ) ) ) );
+        double r = ( SolarLongitude.series(R0, tau) + tau * SolarLongitude.series(R1, tau) ) / 1.0e8;
+        //日心黄経(ラジアン * 1e8)から地心黄経(度)へ
+        double th = l / 1.0e8 / RAD + 180.0;
+        //FK5への補正
+        th -= 0.09033 / 3600.0;
+        //章動 (主要4項)
+        double omega = RAD * ( 125.04452 - 1934.136261 * t );
+        double sunMean = RAD * ( 280.4665 + 36000.7698 * t );
+        double moonMean = RAD * ( 218.3165 + 481267.8813 * t );
+        th += ( -17.20 * Math.sin(omega) - 1.32 * Math.sin(2 * sunMean)
+                - 0.23 * Math.sin(2 * moonMean) + 0.21 * Math.sin(2 * omega) ) / 3600.0;
+        //光行差
+        th -= 20.4898 / 3600.0 / r;
+        return SolarLongitude.normalize(th);
+    }
+    /**
+     * 級数の値を求めます
+     * @param terms 級数の項(振幅, 位相, 角速度)をセット
+     * @param tau J2000.0からのユリウス千年をセット
+     * @return double 値が戻ります
+     */
+    private static double series(double[][] terms, double tau) {
+        double sum = 0;
+        for ( double[] term : terms ) {
+            sum += term[0] * Math.cos(term[1] + term[2] * tau);
+        }
+        return sum;
+    }
+    /**
+     * 太陽が指定した視黄経に達する時刻を取得します
+     * @param longitude 視黄経(度)をセット
+     * @param jd 探索の起点とするユリウス日(求める時刻の前後半月以内)をセット
+     * @return double 時刻のユリウス日(力学時)が戻ります
+     */
+    public static double findJulianDay(double longitude, double jd) {
+        for ( int i = 0; i < 20; i++ ) {
+            double delta = longitude - SolarLongitude.getLongitude(jd);
+            if ( delta > 180.0 ) delta -= 360.0;
+            if ( delta < -180.0 ) delta += 360.0;
+            jd += delta * TROPICAL_YEAR / 360.0;
+            if ( Math.abs(delta) < 1.0e-7 ) break;
+        }
+        return jd;
+    }
+    /**
+     * 太陽が指定した視黄経に達する日を取得します
+     * @param year 年をセット
+     * @param longitude 視黄経(度、0以上360未満)をセット
+     * @return int その年の内、視黄経に達する日(日本標準時)の通算日が戻ります
+     */
+    public static int getEpochDay(int year, double longitude) {
+        //元日の視黄経はおよそ280度なので、そこからの日数を初期値とする
+        double days = SolarLongitude.normalize(longitude - 280.0) * TROPICAL_YEAR / 360.0;
+        double jd = JD_EPOCH + DateUtil.toEpochDay(year, 1, 1) + days;
+        return SolarLongitude.toEpochDay(SolarLongitude.findJulianDay(longitude, jd));
+    }
+    /**
+     * ユリウス日(力学時)を日本標準時の通算日に変換します
+     * @param jd ユリウス日(力学時)をセット
+     * @return int 1970/1/1を0とした通算日が戻ります
+     */
+    public static int toEpochDay(double jd) {
+        double jst = jd - SolarLongitude.deltaT(jd) + JST_OFFSET;
+        return (int)Math.floor(jst - JD_EPOCH);
+    }
+    /**
+     * 力学時と世界時の差(ΔT)を求めます
+     * <pre>
+     *  1900～2150年はEspenak/Meeusの区間毎の多項式を、
+     *  範囲外は長期の近似式 -20 + 32u^2 秒 (u = (年 - 1820) / 100) を使用します。
+     * </pre>
+     * @param jd ユリウス日をセット
+     * @return double ΔT(日)が戻ります
+     */
+    private static double deltaT(double jd) {
+        double y = ( jd - JD_J2000 ) / 365.25 + 2000.0;
+        double u = ( y - 1820.0 ) / 100.0;
+        double sec;
+        if ( y < 1900.0 || y >= 2150.0 ) {
+            sec = -20.0 + 32.0 * u * u;
+        } else if ( y < 1920.0 ) {
+            double t = y - 1900.0;
+            sec = -2.79 + t * ( 1.494119 + t * ( -0.0598939 + t * ( 0.0061966 - t * 0.000197 ) ) );
+        } else if ( y < 1941.0 ) {
+            double t = y - 1920.0;
+            sec = 21.20 + t * ( 0.84493 + t * ( -0.076100 + t * 0.0020936 ) );
+        } else if ( y < 1961.0 ) {
+            double t = y - 1950.0;
+            sec = 29.07 + t * ( 0.407 - t / 233.0 + t * t / 2547.0 );
+        } else if ( y < 1986.0 ) {
+            double t = y - 1975.0;
+            sec = 45.45 + t * ( 1.067 - t / 260.0 - t * t / 718.0 );
+        } else if ( y < 2005.0 ) {
+            double t = y - 2000.0;
+            sec = 63.86 + t * ( 0.3345 + t * ( -0.060374 + t * ( 0.0017275
+                    + t * ( 0.000651814 + t * 0.00002373599 ) ) ) );
+        } else if ( y < 2050.0 ) {
+            double t = y - 2000.0;
+            sec = 62.92 + t * ( 0.32217 + t * 0.005589 );
+        } else {
+            sec = -20.0 + 32.0 * u * u - 0.5628 * ( 2150.0 - y );
+        }
+        return sec / 86400.0;
+    }
+    /**
+     * 角度を0以上360未満に正規化します
+     * @param angle 角度(度)をセット
+     * @return double 正規化した角度が戻ります
+     */
+    private static double normalize(double angle) {
+        double a = angle % 360.0;
+        return a < 0 ? a + 360.0 : a;
+    }
+}
@@ -0,0 +1,180 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.util;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 二十四節気の日付を求める機能を提供します
+ * <pre>
+ *  節気は小寒(視黄経285度)を0とし、15度毎に冬至(270度)の23までの番号で表します。
+ *  各月には必ず2つの節気があり、番号2(m-1)と2(m-1)+1がm月になるので、
+ *  1年分の節気の日(月内の日)を24バイトの配列に持ち、日付からの参照は配列参照で済みます。
+ *  配列は年毎に初回参照時に天文計算(SolarLongitude)で求めてキャッシュします。
+ *  春分、秋分は祝日と食い違わないよう、EquinoxUtilの日付を使用します。
+ * </pre>
+ * @author Kazzz.
+ * @since JDK1.5 Android Level 4
+ *
+ */
+public final class SolarTermUtil {
+    private SolarTermUtil() {}
+
+    /** 節気ではないことを示す値 */
+    public static final int NONE = -1;
+    /** 節気の数 */
+    public static final int COUNT = 24;
+    /** 立春 */
+    public static final int RISSHUN = 2;
+    /** 春分 */
+    public static final int SHUNBUN = 5;
+    /** 夏至 */
+    public static final int GESHI = 11;
+    /** 立秋 */
+    public static final int RISSHUU = 14;
+    /** 秋分 */
+    public static final int SHUUBUN = 17;
+    /** 冬至 */
+    public static final int TOUJI = 23;
+
+    /** キャッシュする最初の年 */
+    public static final int CACHE_FIRST_YEAR = 1900;
+    /** キャッシュする最後の年 */
+    public static final int CACHE_LAST_YEAR = 2200;
+
+    private static final String[] names = {
+        "小寒", "大寒", "立春", "雨水", "啓蟄", "春分",
+        "清明", "穀雨", "立夏", "小満", "芒種", "夏至",
+        "小暑", "大暑", "立秋", "処暑", "白露", "秋分",
+        "寒露", "霜降", "立冬", "小雪", "大雪", "冬至",
+    };
+    // 年毎の節気の日 (添字は節気の番号、値は月内の日)
+    private static final AtomicReferenceArray<byte[]> tables =
+        new AtomicReferenceArray<byte[]>(CACHE_LAST_YEAR - CACHE_FIRST_YEAR + 1);
+
+    /**
+     * 節気を取得します
+     * @param year 年をセット
+     * @param month 月(1～12)をセット
+     * @param day 日をセット
+     * @return int 節気の番号(0～23)が戻ります(節気ではない場合、NONEが戻ります)
+     */
+    public static int getSolarTerm(int year, int month, int day) {
+        if ( month < 1 || month > 12 ) {
+            throw new IllegalArgumentException("invalid month: " + month);
+        }
+        byte[] days = SolarTermUtil.getTable(year);
+        int term = ( month - 1 ) * 2;
+        if ( days[term] == day ) {
+            return term;
+        } else if ( days[term + 1] == day ) {
+            return term + 1;
+        }
+        return NONE;
+    }
+    /**
+     * 節気を取得します
+     * @param epochDay 1970/1/1を0とした通算日をセット
+     * @return int 節気の番号(0～23)が戻ります(節気ではない場合、NONEが戻ります)
+     */
+    public static int getSolarTerm(int epochDay) {
+        int ymd = DateUtil.toYmd(epochDay);
+        return SolarTermUtil.getSolarTerm(ymd / 10000, ( ymd / 100 ) % 100, ymd % 100);
+    }
+    /**
+     * 節気の日を取得します
+     * @param year 年をセット
+     * @param term 節気の番号(0～23)をセット
+     * @return int 月内の日が戻ります(月は term / 2 + 1)
+     */
+    public static int getDay(int year, int term) {
+        if ( term < 0 || term >= COUNT ) {
+            throw new IllegalArgumentException("invalid term: " + term);
+        }
+        return SolarTermUtil.getTable(year)[term];
+    }
+    /**
+     * 月内の節気の日をビットで表した値を取得します
+     * @param year 年をセット
+     * @param month 月(1～12)をセット
+     * @return int ビットd(1～31)がd日に対応する値が戻ります
+     */
+    public static int monthSolarTermMask(int year, int month) {
+        if ( month < 1 || month > 12 ) {
+            throw new IllegalArgumentException("invalid month: " + month);
+        }
+        byte[] days = SolarTermUtil.getTable(year);
+        return 1 << days[( month - 1 ) * 2] | 1 << days[( month - 1 ) * 2 + 1];
+    }
+    /**
+     * 節気の名前を取得します
+     * @param term 節気の番号をセット
+     * @return String 節気の名前(立春等)が戻ります(NONEの場合、空文字が戻ります)
+     */
+    public static String getName(int term) {
+        return term >= 0 && term < COUNT ? names[term] : "";
+    }
+    /**
+     * 節気の太陽の視黄経を取得します
+     * @param term 節気の番号をセット
+     * @return int 視黄経(度)が戻ります
+     */
+    public static int getLongitude(int term) {
+        return ( 285 + term * 15 ) % 360;
+    }
+    /**
+     * 対象年の節気の日の配列を取得します
+     * <pre>
+     *  初回の参照時に生成します。複数のスレッドが同時に生成することがありますが、
+     *  内容は同一で、生成後は変更しないので安全に共有できます。
+     *  キャッシュする範囲外の年は毎回生成します。
+     * </pre>
+     * @param year 年をセット
+     * @return byte[] 節気の日の配列が戻ります(変更しないこと)
+     */
+    private static byte[] getTable(int year) {
+        if ( year < CACHE_FIRST_YEAR || year > CACHE_LAST_YEAR ) {
+            return SolarTermUtil.buildTable(year);
+        }
+        byte[] days = tables.get(year - CACHE_FIRST_YEAR);
+        if ( days == null ) {
+            days = SolarTermUtil.buildTable(year);
+            if ( !tables.compareAndSet(year - CACHE_FIRST_YEAR, null, days) ) {
+                days = tables.get(year - CACHE_FIRST_YEAR);
+            }
+        }
+        return days;
+    }
+    /**
+     * 1年分の節気の日を天文計算で求めます
+     * @param year 年をセット
+     * @return byte[] 節気の日の配列が戻ります
+     */
+    private static byte[] buildTable(int year) {
+        byte[] days = new byte[COUNT];
+        int spring = EquinoxUtil.getSpringEquinoxDay(year);
+        int autumn = EquinoxUtil.getAutumnEquinoxDay(year);
+        for ( int term = 0; term < COUNT; term++ ) {
+            int day;
+            if ( term == SHUNBUN && spring != EquinoxUtil.UNKNOWN ) {
+                day = spring;
+            } else if ( term == SHUUBUN && autumn != EquinoxUtil.UNKNOWN ) {
+                day = autumn;
+            } else {
+                int epochDay = SolarLongitude.getEpochDay(year, SolarTermUtil.getLongitude(term));
+                day = epochDay - DateUtil.toEpochDay(year, term / 2 + 1, 1) + 1;
+            }
+            days[term] = (byte)day;
+        }
+        return days;
+    }
+}
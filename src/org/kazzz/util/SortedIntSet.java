@@ -0,0 +1,202 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.util;
+
+import java.util.Arrays;
+
+/**
+ * intの昇順の集合を提供します
+ * <pre>
+ *  要素をIntegerにボクシングせず、昇順のint配列で保持します。
+ *  判定、前後の要素の探索は二分探索でO(log n)、追加と削除は配列の
+ *  移動を伴うのでO(n)です。日付キー(DateKey)や通算日の休日の集合等、
+ *  一括で作って主に参照する用途に向きます。
+ *  スレッドセーフではありません。
+ * </pre>
+ * @author Kazzz.
+ * @since JDK1.5 Android Level 4
+ *
+ */
+public class SortedIntSet {
+    private int[] elements;
+    private int size;
+
+    /**
+     * コンストラクタ
+     */
+    public SortedIntSet() {
+        this(16);
+    }
+    /**
+     * コンストラクタ
+     * @param capacity 初期の容量をセット
+     */
+    public SortedIntSet(int capacity) {
+        if ( capacity < 0 ) {
+            throw new IllegalArgumentException("invalid capacity: " + capacity);
+        }
+        this.elements = new int[capacity];
+    }
+    /**
+     * コンストラクタ
+     * @param values 要素の配列(順不同、重複可)をセット
+     */
+    public SortedIntSet(int[] values) {
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int n = 0;
+        for ( int i = 0; i < sorted.length; i++ ) {
+            if ( n == 0 || sorted[n - 1] != sorted[i] ) {
+                sorted[n++] = sorted[i];
+            }
+        }
+        this.elements = sorted;
+        this.size = n;
+    }
+    /**
+     * 要素数を取得します
+     * @return int 要素数が戻ります
+     */
+    public int size() {
+        return this.size;
+    }
+    /**
+     * 要素が無いか否かを判定します
+     * @return boolean 要素が無い場合trueが戻ります
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+    /**
+     * 要素を取得します
+     * @param index 添字(昇順)をセット
+     * @return int 要素が戻ります
+     */
+    public int get(int index) {
+        if ( index < 0 || index >= this.size ) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + this.size);
+        }
+        return this.elements[index];
+    }
+    /**
+     * 要素が含まれるか否かを判定します
+     * @param value 値をセット
+     * @return boolean 含まれる場合trueが戻ります
+     */
+    public boolean contains(int value) {
+        int i = this.lowerBound(value);
+        return i < this.size && this.elements[i] == value;
+    }
+    /**
+     * 要素を追加します
+     * @param value 値をセット
+     * @return boolean 追加した場合trueが戻ります(既に含まれていた場合、falseが戻ります)
+     */
+    public boolean add(int value) {
+        int i = this.lowerBound(value);
+        if ( i < this.size && this.elements[i] == value ) {
+            return false;
+        }
+        if ( this.size == this.elements.length ) {
+            int[] grown = new int[Math.max(16, this.size * 2)];
+            System.arraycopy(this.elements, 0, grown, 0, this.size);
+            this.elements = grown;
+        }
+        System.arraycopy(this.elements, i, this.elements, i + 1, this.size - i);
+        this.elements[i] = value;
+        this.size++;
+        return true;
+    }
+    /**
+     * 要素を削除します
+     * @param value 値をセット
+     * @return boolean 削除した場合trueが戻ります(含まれていなかった場合、falseが戻ります)
+     */
+    public boolean remove(int value) {
+        int i = this.lowerBound(value);
+        if ( i >= this.size || this.elements[i] != value ) {
+            return false;
+        }
+        System.arraycopy(this.elements, i + 1, this.elements, i, this.size - i - 1);
+        this.size--;
+        return true;
+    }
+    /**
+     * 全ての要素を削除します
+     */
+    public void clear() {
+        this.size = 0;
+    }
+    /**
+     * 値以上の最小の要素の添字を取得します
+     * @param value 値をセット
+     * @return int 添字が戻ります(全ての要素が値未満の場合、size()が戻ります)
+     */
+    public int lowerBound(int value) {
+        int low = 0;
+        int high = this.size;
+        while ( low < high ) {
+            int mid = ( low + high ) >>> 1;
+            if ( this.elements[mid] < value ) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+    /**
+     * 値以上の最小の要素を取得します
+     * @param value 値をセット
+     * @param defaultValue 該当する要素が無い場合の値をセット
+     * @return int 要素が戻ります(該当する要素が無い場合、defaultValueが戻ります)
+     */
+    public int ceiling(int value, int defaultValue) {
+        int i = this.lowerBound(value);
+        return i < this.size ? this.elements[i] : defaultValue;
+    }
+    /**
+     * 値以下の最大の要素を取得します
+     * @param value 値をセット
+     * @param defaultValue 該当する要素が無い場合の値をセット
+     * @return int 要素が戻ります(該当する要素が無い場合、defaultValueが戻ります)
+     */
+    public int floor(int value, int defaultValue) {
+        int i = this.lowerBound(value);
+        if ( i < this.size && this.elements[i] == value ) {
+            return value;
+        }
+        return i > 0 ? this.elements[i - 1] : defaultValue;
+    }
+    /**
+     * 範囲内の要素数を取得します
+     * @param from 開始の値(含む)をセット
+     * @param to 終了の値(含む)をセット
+     * @return int 要素数が戻ります
+     */
+    public int count(int from, int to) {
+        if ( from > to ) {
+            return 0;
+        }
+        int end = to == Integer.MAX_VALUE ? this.size : this.lowerBound(to + 1);
+        return end - this.lowerBound(from);
+    }
+    /**
+     * 要素の配列のコピーを取得します
+     * @return int[] 昇順の要素の配列が戻ります
+     */
+    public int[] toArray() {
+        int[] result = new int[this.size];
+        System.arraycopy(this.elements, 0, result, 0, this.size);
+        return result;
+    }
+}
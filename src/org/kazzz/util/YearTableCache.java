@@ -0,0 +1,141 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.util;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 年毎の祝日テーブルのキャッシュを提供します
+ * <pre>
+ *  参照はAtomicReferenceArrayの読み出し1回でロックを取りません。
+ *  未生成の年は年毎のロックで二重チェックし、1年につき1度だけ生成します。
+ *  祝日テーブル(HolidayYear)は不変なので、格納した時点で安全に公開されます。
+ *  範囲外の年は直近に参照したFAR_YEARS年分を保持し(最も長く参照されていない年から破棄)、
+ *  複数の範囲外の年を交互に参照しても、その度に生成し直すことはありません。
+ * </pre>
+ * @author Kazzz.
+ * @since JDK1.5 Android Level 4
+ *
+ */
+final class YearTableCache {
+    /**
+     * 祝日テーブルを生成するインタフェースです
+     */
+    interface Loader {
+        /**
+         * 1年分の祝日テーブルを生成します
+         * @param year 年をセット
+         * @return HolidayYear 祝日テーブルが戻ります
+         */
+        HolidayYear load(int year);
+    }
+
+    /** 範囲外の年を保持する年数 */
+    static final int FAR_YEARS = 8;
+
+    private final int firstYear;
+    private final AtomicReferenceArray<HolidayYear> tables;
+    private final Object[] locks;
+    private final Loader loader;
+    // 範囲外の年の表 (添字0が最も最近参照した年、farTables自身でロックする)
+    private final HolidayYear[] farTables = new HolidayYear[FAR_YEARS];
+    private int farCount;
+
+    /**
+     * コンストラクタ
+     * @param firstYear キャッシュする最初の年をセット
+     * @param lastYear キャッシュする最後の年をセット
+     * @param loader 祝日テーブルの生成に使用するオブジェクトをセット
+     */
+    YearTableCache(int firstYear, int lastYear, Loader loader) {
+        this.firstYear = firstYear;
+        this.tables = new AtomicReferenceArray<HolidayYear>(lastYear - firstYear + 1);
+        this.locks = new Object[lastYear - firstYear + 1];
+        for ( int i = 0; i < this.locks.length; i++ ) {
+            this.locks[i] = new Object();
+        }
+        this.loader = loader;
+    }
+    /**
+     * 対象年の祝日テーブルを取得します
+     * @param year 年をセット
+     * @return HolidayYear 祝日テーブルが戻ります
+     */
+    HolidayYear get(int year) {
+        int i = year - this.firstYear;
+        if ( i < 0 || i >= this.locks.length ) {
+            return this.getFar(year);
+        }
+        HolidayYear table = this.tables.get(i);
+        if ( table == null ) {
+            synchronized ( this.locks[i] ) {
+                table = this.tables.get(i);
+                if ( table == null ) {
+                    table = this.loader.load(year);
+                    this.tables.set(i, table);
+                }
+            }
+        }
+        return table;
+    }
+    /**
+     * 範囲外の年の祝日テーブルを取得します
+     * <pre>
+     *  保持する年数は数年なので、配列を線形に探索して最も最近参照した位置(添字0)に
+     *  詰め直します。無い場合は生成し、上限に達していれば最も古い年を破棄します。
+     *  範囲外の年の参照は稀なので、生成も含めて1つのロックで行います。
+     * </pre>
+     * @param year 年(キャッシュする範囲外)をセット
+     * @return HolidayYear 祝日テーブルが戻ります
+     */
+    private HolidayYear getFar(int year) {
+        synchronized ( this.farTables ) {
+            int i = 0;
+            while ( i < this.farCount && this.farTables[i].getYear() != year ) {
+                i++;
+            }
+            HolidayYear table;
+            if ( i < this.farCount ) {
+                table = this.farTables[i];
+            } else {
+                table = this.loader.load(year);
+                if ( this.farCount < FAR_YEARS ) {
+                    this.farCount++;
+                }
+                i = this.farCount - 1; //最も古い年(末尾)を上書きする
+            }
+            System.arraycopy(this.farTables, 0, this.farTables, 1, i);
+            this.farTables[0] = table;
+            return table;
+        }
+    }
+    /**
+     * キャッシュを破棄します
+     * <pre>
+     *  生成中の年は生成の完了を待ってから破棄するので、生成元を切り替えた後に
+     *  呼び出せば、切り替え前の内容が残ることはありません。
+     * </pre>
+     */
+    void clear() {
+        for ( int i = 0; i < this.locks.length; i++ ) {
+            synchronized ( this.locks[i] ) {
+                this.tables.set(i, null);
+            }
+        }
+        synchronized ( this.farTables ) {
+            for ( int i = 0; i < this.farCount; i++ ) {
+                this.farTables[i] = null;
+            }
+            this.farCount = 0;
+        }
+    }
+}
@@ -44,6 +44,9 @@ public class CalendarSelectionEvent extends EventObject {
     }
     /**
      * 選択したカレンダーから取得したDateInfoオブジェクトを取得します
+     * <pre>
+     *  カレンダのセルの情報のコピーなので、変更してもカレンダには影響しません。
+     * </pre>
      * @return DateInfo 日付情報が戻ります
      */
     public DateInfo getDateInfo() {
@@ -21,6 +21,7 @@ import java.util.Locale;
 
 import org.kazzz.R;
 import org.kazzz.util.AnimationHelper;
+import org.kazzz.util.JapaneseEraUtil;
 import org.kazzz.util.StrUtil;
 import org.kazzz.view.FixableViewFlipper;
 import org.kazzz.view.numberpicker.NumberPicker;
@@ -80,6 +81,8 @@ public class CalendarView extends LinearLayout {
     protected float lastTouchX;
     protected float lastTouchY;
     protected TextView txtHeader;
+    protected boolean japaneseEra;    //ヘッダを和暦で表示する
+    protected final StringBuilder headerText = new StringBuilder(32); //ヘッダの編集用
     
     //各色のデフォルト値 (デザイン時に使用する)
     protected int c_backgroud = Color.parseColor("#f0ffffff"); 
@@ -605,9 +608,35 @@ public class CalendarView extends LinearLayout {
      * @param month 月をセット
      */
     private void setHeader(int year, int month) {
-        this.txtHeader.setText(year
-                + (Locale.getDefault().equals(Locale.JAPAN) ? "年" : " ") 
-                + monthNames[month]);
+        //ページ送り毎に呼ばれるので、編集用のバッファを使い回す
+        StringBuilder sb = this.headerText;
+        sb.setLength(0);
+        if ( this.japaneseEra ) {
+            JapaneseEraUtil.appendYearMonth(sb, year, month + 1); //令和6年5月
+        } else {
+            sb.append(year)
+              .append(Locale.getDefault().equals(Locale.JAPAN) ? "年" : " ") 
+              .append(monthNames[month]);
+        }
+        this.txtHeader.setText(sb);
+    }
+    /**
+     * japaneseEraを取得します
+     * @return boolean ヘッダを和暦で表示する場合trueが戻ります
+     */
+    public boolean isJapaneseEra() {
+        return this.japaneseEra;
+    }
+    /**
+     * ヘッダを和暦(令和6年5月等)で表示するか否かを設定します
+     * @param japaneseEra 和暦で表示する場合trueをセット
+     */
+    public void setJapaneseEra(boolean japaneseEra) {
+        this.japaneseEra = japaneseEra;
+        if ( this.txtHeader != null ) {
+            this.setHeader(this.calendar.get(java.util.Calendar.YEAR)
+                    , this.calendar.get(java.util.Calendar.MONTH));
+        }
     }
 }
 
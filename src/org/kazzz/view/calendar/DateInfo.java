@@ -12,16 +12,30 @@
 package org.kazzz.view.calendar;
 
 import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
 
+import org.kazzz.util.DateKey;
+import org.kazzz.util.DateUtil;
+import org.kazzz.util.HolidayCalendar;
+import org.kazzz.util.HolidayId;
 import org.kazzz.util.HolidayUtil;
-import org.kazzz.util.StrUtil;
+import org.kazzz.util.JapaneseEraUtil;
+import org.kazzz.util.RokuyoUtil;
+import org.kazzz.util.SolarTermUtil;
 
 import android.os.Parcel;
 import android.os.Parcelable;
 
 /**
  * カレンダビュー内部で使用する日付情報を提供します
- * 
+ * <pre>
+ *  カレンダビューのセルはDateInfoPoolが共有するインスタンスを使用します。
+ *  共有のインスタンス(isShared)は変更できないので、変更する場合は
+ *  DateInfo(DateInfo)でコピーしてください。
+ *  選択したセルの情報(MonthlyCalendarView#getSelectedDateInfo、
+ *  CalendarSelectionEvent#getDateInfo)はコピーなので、そのまま変更できます。
+ * </pre>
  * @author Kazzz.
  * @since JDK1.5 Android Level 4
  *
@@ -37,25 +51,88 @@ public class DateInfo implements Parcelable {
             return new DateInfo[size];
         }
     };
+    private static final long NO_MILLIS = Long.MIN_VALUE; //reportMillisが未計算
     protected int year, month, day, hour, minute;
     protected boolean isHoliday;
-    protected String holidayName;
+    protected int holidayId;
+    protected int rokuyo = RokuyoUtil.UNKNOWN;
+    protected int solarTerm = SolarTermUtil.NONE;
+    protected boolean resolved; //祭日、六曜、二十四節気を判定済み
+    protected HolidayCalendar holidays = HolidayCalendar.getDefault();
     protected Object object;
-    protected Date reportDate;
+    private long reportMillis = NO_MILLIS; //createDateのミリ秒 (日時を変更するとNO_MILLISに戻す)
+    private TimeZone reportZone; //reportMillisを求めたタイムゾーン
+    final boolean shared; //DateInfoPoolが共有する(変更できない)インスタンス
     /**
      * コンストラクタ
      * @param date Dateオブジェクトをセット
      */
     public DateInfo(int year, int month, int day) {
-        //this();
+        this(year, month, day, HolidayCalendar.getDefault());
+    }
+    /**
+     * コンストラクタ
+     * @param year 年をセット
+     * @param month 月をセット
+     * @param day 日をセット
+     * @param holidays 祭日の判定に使用するカレンダをセット
+     */
+    public DateInfo(int year, int month, int day, HolidayCalendar holidays) {
+        this.year = year;
+        this.month = month;
+        this.day = day;
+        this.holidays = holidays;
+        this.shared = false;
+        //祭日等の判定は最初に参照された時に行う (resolve)
+    }
+    /**
+     * コンストラクタ (判定済みの祭日情報を使用する)
+     * <pre>
+     *  カレンダビューが月単位の休日ビット(HolidayCalendar#monthHolidayMask)から
+     *  生成する場合に使用します。
+     * </pre>
+     * @param year 年をセット
+     * @param month 月をセット
+     * @param day 日をセット
+     * @param holidays 祭日の判定に使用したカレンダをセット
+     * @param holidayId 祝日IDをセット
+     * @param isHoliday 休日(日曜日又は祭日)の場合trueをセット
+     * @param shared DateInfoPoolが共有する(変更できない)インスタンスの場合trueをセット
+     */
+    DateInfo(int year, int month, int day, HolidayCalendar holidays
+            , int holidayId, boolean isHoliday, boolean shared) {
         this.year = year;
         this.month = month;
         this.day = day;
-        this.holidayName = 
-            HolidayUtil.getHolidayName(this.year, this.month,  this.day);
-        this.isHoliday = 
-            HolidayUtil.isSunday(this.year, this.month,  this.day) 
-            || StrUtil.isNotEmpty(this.holidayName);
+        this.holidays = holidays;
+        this.holidayId = holidayId;
+        this.isHoliday = isHoliday;
+        this.rokuyo = RokuyoUtil.getRokuyo(DateUtil.toEpochDayLenient(year, month, day));
+        this.solarTerm = SolarTermUtil.getSolarTerm(year, month, day);
+        this.resolved = true;
+        this.shared = shared;
+    }
+    /**
+     * コンストラクタ (コピー)
+     * <pre>
+     *  共有のインスタンスからも変更できるインスタンスを生成できます。
+     * </pre>
+     * @param source コピー元をセット
+     */
+    public DateInfo(DateInfo source) {
+        this.year = source.year;
+        this.month = source.month;
+        this.day = source.day;
+        this.hour = source.hour;
+        this.minute = source.minute;
+        this.isHoliday = source.isHoliday;
+        this.holidayId = source.holidayId;
+        this.rokuyo = source.rokuyo;
+        this.solarTerm = source.solarTerm;
+        this.resolved = source.resolved;
+        this.holidays = source.holidays;
+        this.object = source.object;
+        this.shared = false;
     }
     /**
      * コンストラクタ
@@ -63,6 +140,7 @@ public class DateInfo implements Parcelable {
      */
     public DateInfo(Parcel in) {
         //this();
+        this.shared = false;
         this.readFromParcel(in);
     }
     /* (non-Javadoc)
@@ -82,21 +160,35 @@ public class DateInfo implements Parcelable {
         dest.writeInt(this.day);
         dest.writeInt(this.hour);
         dest.writeInt(this.minute);
+        this.resolve();
         dest.writeInt(this.isHoliday ? 1:0);
-        dest.writeString(this.holidayName);
+        dest.writeInt(this.holidayId);
+        dest.writeInt(this.rokuyo);
+        dest.writeInt(this.solarTerm);
     }
     /**
      * Parcel内からインスタンスを構成します 
+     * <pre>
+     *  祭日の判定に使用したカレンダ(HolidayCalendar)はParcelに書き込めないので、
+     *  読み込んだインスタンスはデフォルトのカレンダで祭日を判定し直します。
+     *  (Parcel内の祝日IDは書き込んだ側のカレンダのIDなので使用しません)
+     * </pre>
      * @param source パーセルオブジェクトをセット
      */
     public void readFromParcel(Parcel source) {
+        this.checkMutable();
         this.year = source.readInt();
         this.month = source.readInt();
         this.day = source.readInt();
         this.hour = source.readInt();
         this.minute = source.readInt();
         this.isHoliday = source.readInt() == 1 ? true :false;
-        this.holidayName = source.readString();
+        this.holidayId = source.readInt();
+        this.rokuyo = source.readInt();
+        this.solarTerm = source.readInt();
+        this.holidays = HolidayCalendar.getDefault();
+        this.resolved = false;
+        this.reportMillis = NO_MILLIS;
     }
     
     /**
@@ -111,9 +203,11 @@ public class DateInfo implements Parcelable {
      * @param year yearをセットします
      */
     public void setYear(int year) {
+        this.checkMutable();
         if ( this.year !=  year ) {
             this.year = year;
-            this.createDate();
+            this.resolved = false;
+            this.reportMillis = NO_MILLIS;
         }
     }
     /**
@@ -128,9 +222,11 @@ public class DateInfo implements Parcelable {
      * @param month monthをセットします
      */
     public void setMonth(int month) {
+        this.checkMutable();
         if ( this.month !=  month ) {
             this.month = month;
-            this.createDate();
+            this.resolved = false;
+            this.reportMillis = NO_MILLIS;
         }
     }
     /**
@@ -145,9 +241,11 @@ public class DateInfo implements Parcelable {
      * @param day dayをセットします
      */
     public void setDay(int day) {
+        this.checkMutable();
         if ( this.day !=  day ) {
             this.day = day;
-            this.createDate();
+            this.resolved = false;
+            this.reportMillis = NO_MILLIS;
         }
     }
     
@@ -163,9 +261,10 @@ public class DateInfo implements Parcelable {
      * @param hour hourをセットします
      */
     public void setHour(int hour) {
+        this.checkMutable();
         if ( this.hour !=  hour ) {
             this.hour = hour;
-            this.createDate();
+            this.reportMillis = NO_MILLIS;
         }
     }
     /**
@@ -180,9 +279,10 @@ public class DateInfo implements Parcelable {
      * @param minute minuteをセットします
      */
     public void setMinute(int minute) {
+        this.checkMutable();
         if ( this.minute !=  minute ) {
             this.minute = minute;
-            this.createDate();
+            this.reportMillis = NO_MILLIS;
         }
     }
     /**
@@ -192,12 +292,14 @@ public class DateInfo implements Parcelable {
      * @param day 日をセット
      */
     public void setYMD(int year, int month, int day) {
+        this.checkMutable();
         this.year = year;
         this.month = month;
         this.day = day;
         this.hour = 0;
         this.minute = 0;
-        this.createDate();
+        this.resolved = false;
+        this.reportMillis = NO_MILLIS;
     }
     /**
      * 年月日時分を設定します
@@ -208,18 +310,66 @@ public class DateInfo implements Parcelable {
      * @param minute 日をセット
      */
     public void setYMDHM(int year, int month, int day, int hour, int minute) {
+        this.checkMutable();
         this.year = year;
         this.month = month;
         this.day = day;
         this.hour = hour;
         this.minute = minute;
-        this.createDate();
+        this.resolved = false;
+        this.reportMillis = NO_MILLIS;
+    }
+    /**
+     * 日付キーを取得します
+     * @return int 日付キー(DateKey、範囲外の月日は正規化した日付)が戻ります
+     */
+    public int getDateKey() {
+        return DateKey.fromEpochDay(
+                DateUtil.toEpochDayLenient(this.year, this.month, this.day));
+    }
+    /**
+     * 共有の(変更できない)インスタンスか否かを判定します
+     * @return boolean DateInfoPoolが共有するインスタンスの場合trueが戻ります
+     */
+    public boolean isShared() {
+        return this.shared;
+    }
+    /**
+     * 祭日、六曜、二十四節気を判定します
+     * <pre>
+     *  コンストラクタでは判定せず、最初に参照された時に判定します。
+     *  (キーとしての使用やパーセル化だけの場合は判定しない)
+     *  年月日を変更すると判定し直します。共有のインスタンスは生成時に判定済みです。
+     * </pre>
+     */
+    private void resolve() {
+        if ( !this.resolved ) {
+            //Calendarを使わない判定 (範囲外の月日(1/32等)は正規化した日付で判定する)
+            int epochDay = DateUtil.toEpochDayLenient(this.year, this.month, this.day);
+            this.holidayId = this.holidays.getHolidayId(epochDay);
+            this.isHoliday = 
+                HolidayUtil.isSunday(epochDay) || this.holidayId != HolidayId.NONE;
+            this.rokuyo = RokuyoUtil.getRokuyo(epochDay);
+            this.solarTerm = SolarTermUtil.getSolarTerm(epochDay);
+            this.resolved = true;
+        }
+    }
+    /**
+     * 変更できるインスタンスか否かを検査します
+     * @throws UnsupportedOperationException 共有のインスタンスの場合
+     */
+    private void checkMutable() {
+        if ( this.shared ) {
+            throw new UnsupportedOperationException(
+                    "shared DateInfo is immutable, copy it with new DateInfo(DateInfo)");
+        }
     }
     /**
      * isHolidayを取得します
      * @return boolean isHolidayが戻ります
      */
     public boolean isHoliday() {
+        this.resolve();
         return this.isHoliday;
     }
     /**
@@ -234,25 +384,108 @@ public class DateInfo implements Parcelable {
      * @param object objectをセットします
      */
     public void setObject(Object object) {
+        this.checkMutable();
         this.object = object;
     }
+    /**
+     * holidayIdを取得します
+     * @return int holidayIdが戻ります(祭日では無い場合、HolidayId.NONEが戻ります)
+     */
+    public int getHolidayId() {
+        this.resolve();
+        return this.holidayId;
+    }
     /**
      * holidayNameを取得します
-     * @return String holidayNameが戻ります
+     * @return String holidayNameが戻ります(祭日では無い場合、空文字が戻ります)
      */
     public String getHolidayName() {
-        return this.holidayName;
+        this.resolve();
+        return this.holidays.getHolidayName(this.holidayId);
+    }
+    /**
+     * ロケールに対応したholidayNameを取得します
+     * @param locale ロケールをセット
+     * @return String holidayNameが戻ります(祭日では無い場合、空文字が戻ります)
+     */
+    public String getHolidayName(Locale locale) {
+        this.resolve();
+        return this.holidays.getHolidayName(this.holidayId, locale);
+    }
+    /**
+     * rokuyoを取得します
+     * @return int 六曜(RokuyoUtil.TAIAN～RokuyoUtil.BUTSUMETSU)が戻ります
+     *             (収録範囲外の場合、RokuyoUtil.UNKNOWNが戻ります)
+     */
+    public int getRokuyo() {
+        this.resolve();
+        return this.rokuyo;
+    }
+    /**
+     * 六曜の名前を取得します
+     * @return String 六曜の名前(大安、仏滅等)が戻ります(収録範囲外の場合、空文字が戻ります)
+     */
+    public String getRokuyoName() {
+        return RokuyoUtil.getName(this.getRokuyo());
+    }
+    /**
+     * solarTermを取得します
+     * @return int 二十四節気の番号(0～23)が戻ります
+     *             (節気ではない場合、SolarTermUtil.NONEが戻ります)
+     */
+    public int getSolarTerm() {
+        this.resolve();
+        return this.solarTerm;
+    }
+    /**
+     * 二十四節気の名前を取得します
+     * @return String 節気の名前(立春、夏至等)が戻ります(節気ではない場合、空文字が戻ります)
+     */
+    public String getSolarTermName() {
+        return SolarTermUtil.getName(this.getSolarTerm());
     }
     
     /**
      * 内部の日付情報からDateオブジェクト生成します
+     * <pre>
+     *  デフォルトのタイムゾーンの日時として、文字列の解析をせずに整数演算で求めます。
+     *  求めたミリ秒はタイムゾーンと共に保持し、日時又はデフォルトのタイムゾーンを
+     *  変更するまで使用します。Dateは呼び出し毎に生成します。
+     *  (共有のインスタンスはミリ秒も保持しません)
+     * </pre>
      * @return Date 生成した日付が戻ります
      */
     public Date createDate() {
-        this.reportDate = 
-            new Date(this.year + "/" + this.month + "/" + this.day 
-                    + " " + this.hour + ":" + this.minute);
-        return this.reportDate;
+        TimeZone zone = TimeZone.getDefault();
+        if ( this.reportMillis == NO_MILLIS || !zone.equals(this.reportZone) ) {
+            long millis = this.toEpochMillis(zone);
+            if ( this.shared ) {
+                return new Date(millis);
+            }
+            this.reportMillis = millis;
+            this.reportZone = zone;
+        }
+        return new Date(this.reportMillis);
+    }
+    /**
+     * 内部の日付情報のミリ秒を取得します
+     * <pre>
+     *  デフォルトのタイムゾーンの日時として求めます。(範囲外の月日は正規化します)
+     * </pre>
+     * @return long 1970/1/1 0:00(UTC)からのミリ秒が戻ります
+     */
+    public long getTimeInMillis() {
+        return this.toEpochMillis(TimeZone.getDefault());
+    }
+    /**
+     * 内部の日付情報のミリ秒を取得します
+     * @param zone タイムゾーンをセット
+     * @return long 1970/1/1 0:00(UTC)からのミリ秒が戻ります
+     */
+    private long toEpochMillis(TimeZone zone) {
+        return DateUtil.toEpochMillis(
+                DateUtil.toEpochDayLenient(this.year, this.month, this.day)
+                , this.hour, this.minute, zone);
     }
     /**
      * 内部の日付をYYMMDD形式で取得します
@@ -271,6 +504,25 @@ public class DateInfo implements Parcelable {
         + toTwoDigits(this.month) + toTwoDigits(this.day)
         + toTwoDigits(this.hour) + toTwoDigits(this.minute);
     }
+    /**
+     * 内部の日付を和暦(令和6年5月3日等)で取得します
+     * @return String 和暦の日付が戻ります
+     */
+    public String getEraYMD() {
+        return this.appendEraYMD(new StringBuilder(16)).toString();
+    }
+    /**
+     * 内部の日付を和暦(令和6年5月3日等)で追加します
+     * <pre>
+     *  一覧の描画等で繰り返し書式化する場合は、StringBuilderを使い回してください。
+     * </pre>
+     * @param sb 追加先をセット
+     * @return StringBuilder 追加先が戻ります
+     */
+    public StringBuilder appendEraYMD(StringBuilder sb) {
+        return JapaneseEraUtil.appendDate(sb
+                , DateUtil.toEpochDayLenient(this.year, this.month, this.day));
+    }
     /**
      * 数値を2桁に整形します
      * @param n 数値をセット
@@ -299,6 +551,14 @@ public class DateInfo implements Parcelable {
         }
         return false;
     }
+    /* (non-Javadoc)
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return ( ( this.year * 10000 + this.month * 100 + this.day ) * 31
+                + this.hour ) * 61 + this.minute;
+    }
     /* (non-Javadoc)
      * @see java.lang.Object#toString()
      */
@@ -308,12 +568,9 @@ public class DateInfo implements Parcelable {
         builder.append("DateInfo [");
         builder.append(" Date[year/month/day hour:minute] = [");
         builder.append(this.createDate().toLocaleString());
-        builder.append(", isHoliday = " + this.isHoliday);
-        builder.append(StrUtil.isNotEmpty(this.holidayName)
-                ? ", " + this.holidayName
-                : "");
-        builder.append( StrUtil.isNotEmpty(this.holidayName)
-                ? ", " + this.holidayName
+        builder.append(", isHoliday = " + this.isHoliday());
+        builder.append(this.getHolidayId() != HolidayId.NONE
+                ? ", " + this.getHolidayName()
                 : "");
         builder.append("]");
         return builder.toString();
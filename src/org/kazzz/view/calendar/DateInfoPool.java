@@ -0,0 +1,220 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.view.calendar;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.kazzz.util.DateKey;
+import org.kazzz.util.DateUtil;
+import org.kazzz.util.HolidayCalendar;
+import org.kazzz.util.HolidayId;
+import org.kazzz.util.HolidayUtil;
+
+/**
+ * 同じ日付のDateInfoを共有するためのプールを提供します
+ * <pre>
+ *  DateInfoを年単位の表(月 * 31 + 日の添字)に保持し、同じ日付には
+ *  同じインスタンスを返します。表は月単位で初回参照時に月の休日ビット
+ *  (HolidayCalendar#monthHolidayMask)から生成するので、カレンダを前後に
+ *  めくっても、戻った月のDateInfoは生成も祝日の判定もやり直しません。
+ *  保持する年数には上限があり、超えた場合は最も長く参照されていない年を破棄します。
+ *  プールのDateInfoは共有されるので変更できません。(DateInfo#isShared)
+ *  変更する場合はDateInfo(DateInfo)でコピーしてください。
+ *  祝日データベース(HolidayUtil.setDatabase)を変更した場合は、次に参照した時点で
+ *  保持している全ての日付情報を破棄して作り直します。(HolidayUtil.getDatabaseVersion)
+ * </pre>
+ * @author Kazzz.
+ * @since JDK1.5 Android Level 4
+ *
+ */
+public final class DateInfoPool {
+    /** デフォルトの保持する年数 */
+    public static final int DEFAULT_MAX_YEARS = 4;
+
+    private static final DateInfoPool defaultPool =
+        new DateInfoPool(HolidayCalendar.getDefault(), DEFAULT_MAX_YEARS);
+    // カレンダ毎のプール (プールはカレンダを参照するので、値も弱参照で保持する)
+    private static final Map<HolidayCalendar, WeakReference<DateInfoPool>> pools =
+        new WeakHashMap<HolidayCalendar, WeakReference<DateInfoPool>>();
+
+    private final HolidayCalendar holidays;
+    // 年毎の表 (添字0が最も最近参照した年)
+    private final int[] years;
+    private final DateInfo[][] tables;
+    private final int[] filledMonths; // 生成済みの月のビット (ビットmがm月)
+    private int count;
+    private int databaseVersion = HolidayUtil.getDatabaseVersion(); // 表を生成した時点の版数
+
+    /**
+     * コンストラクタ
+     * @param holidays 祭日の判定に使用するカレンダをセット
+     * @param maxYears 保持する年数の上限をセット
+     */
+    public DateInfoPool(HolidayCalendar holidays, int maxYears) {
+        if ( holidays == null ) {
+            throw new IllegalArgumentException("holidays is required");
+        }
+        if ( maxYears < 1 ) {
+            throw new IllegalArgumentException("invalid maxYears: " + maxYears);
+        }
+        this.holidays = holidays;
+        this.years = new int[maxYears];
+        this.tables = new DateInfo[maxYears][];
+        this.filledMonths = new int[maxYears];
+    }
+    /**
+     * デフォルトのカレンダ(HolidayCalendar.getDefault)のプールを取得します
+     * @return DateInfoPool プールが戻ります
+     */
+    public static DateInfoPool getDefault() {
+        return defaultPool;
+    }
+    /**
+     * カレンダに対応するプールを取得します
+     * <pre>
+     *  同じカレンダには、いずれかのビューがプールを参照している間は同じプールを返します。
+     *  参照されなくなったプールとカレンダはガベージコレクションで解放されます。
+     * </pre>
+     * @param holidays 祭日の判定に使用するカレンダをセット
+     * @return DateInfoPool カレンダで共有するプールが戻ります
+     */
+    public static DateInfoPool forCalendar(HolidayCalendar holidays) {
+        if ( holidays == defaultPool.holidays ) {
+            return defaultPool;
+        }
+        if ( holidays == null ) {
+            throw new IllegalArgumentException("holidays is required");
+        }
+        synchronized ( pools ) {
+            WeakReference<DateInfoPool> ref = pools.get(holidays);
+            DateInfoPool pool = ref != null ? ref.get() : null;
+            if ( pool == null ) {
+                pool = new DateInfoPool(holidays, DEFAULT_MAX_YEARS);
+                pools.put(holidays, new WeakReference<DateInfoPool>(pool));
+            }
+            return pool;
+        }
+    }
+    /**
+     * 祭日の判定に使用するカレンダを取得します
+     * @return HolidayCalendar カレンダが戻ります
+     */
+    public HolidayCalendar getHolidays() {
+        return this.holidays;
+    }
+    /**
+     * 日付情報を取得します
+     * @param year 年をセット
+     * @param month 月(1～12)をセット
+     * @param day 日をセット
+     * @return DateInfo 共有の(変更できない)日付情報が戻ります
+     */
+    public synchronized DateInfo get(int year, int month, int day) {
+        if ( !DateUtil.isValidDate(year, month, day) ) {
+            throw new IllegalArgumentException(
+                    "invalid date: " + year + "/" + month + "/" + day);
+        }
+        int version = HolidayUtil.getDatabaseVersion();
+        if ( version != this.databaseVersion ) {
+            this.clear();
+            this.databaseVersion = version;
+        }
+        this.touch(year);
+        if ( ( this.filledMonths[0] & ( 1 << month ) ) == 0 ) {
+            this.fillMonth(this.tables[0], year, month);
+            this.filledMonths[0] |= 1 << month;
+        }
+        return this.tables[0][( month - 1 ) * 31 + day - 1];
+    }
+    /**
+     * 日付情報を取得します
+     * @param dateKey 日付キー(DateKey)をセット
+     * @return DateInfo 共有の(変更できない)日付情報が戻ります
+     */
+    public DateInfo get(int dateKey) {
+        return this.get(DateKey.getYear(dateKey), DateKey.getMonth(dateKey)
+                , DateKey.getDay(dateKey));
+    }
+    /**
+     * 保持している年数を取得します
+     * @return int 年数が戻ります
+     */
+    public synchronized int getYearCount() {
+        return this.count;
+    }
+    /**
+     * 保持している全ての日付情報を破棄します
+     */
+    public synchronized void clear() {
+        for ( int i = 0; i < this.count; i++ ) {
+            this.tables[i] = null;
+        }
+        this.count = 0;
+    }
+    /**
+     * 対象年の表を最も最近参照した位置(添字0)に移します
+     * <pre>
+     *  保持する年数は数年なので、配列を線形に探索して詰め直します。
+     *  表が無い場合は、上限に達していれば最も古い年の表を破棄して生成します。
+     * </pre>
+     * @param year 年をセット
+     */
+    private void touch(int year) {
+        int i = 0;
+        while ( i < this.count && this.years[i] != year ) {
+            i++;
+        }
+        if ( i == 0 && this.count > 0 ) {
+            return;
+        }
+        DateInfo[] table;
+        int filled;
+        if ( i < this.count ) {
+            table = this.tables[i];
+            filled = this.filledMonths[i];
+        } else {
+            table = new DateInfo[12 * 31];
+            filled = 0;
+            if ( this.count < this.years.length ) {
+                this.count++;
+            }
+            i = this.count - 1; //最も古い年(末尾)を上書きする
+        }
+        System.arraycopy(this.years, 0, this.years, 1, i);
+        System.arraycopy(this.tables, 0, this.tables, 1, i);
+        System.arraycopy(this.filledMonths, 0, this.filledMonths, 1, i);
+        this.years[0] = year;
+        this.tables[0] = table;
+        this.filledMonths[0] = filled;
+    }
+    /**
+     * 1か月分の日付情報を生成します
+     * @param table 格納先の表をセット
+     * @param year 年をセット
+     * @param month 月(1～12)をセット
+     */
+    private void fillMonth(DateInfo[] table, int year, int month) {
+        // 月内の休日、祭日をビットで取得 (ビットdがd日)
+        int holidayMask = this.holidays.monthHolidayMask(year, month);
+        int namedMask = this.holidays.monthNamedHolidayMask(year, month);
+        int lastDate = DateUtil.lengthOfMonth(year, month);
+        for ( int date = 1; date <= lastDate; date++ ) {
+            //祝日IDは祭日の日だけ引く
+            int holidayId = ( namedMask & ( 1 << date ) ) != 0
+                ? this.holidays.getHolidayId(year, month, date) : HolidayId.NONE;
+            table[( month - 1 ) * 31 + date - 1] = new DateInfo(year, month, date
+                    , this.holidays, holidayId, ( holidayMask & ( 1 << date ) ) != 0, true);
+        }
+    }
+}
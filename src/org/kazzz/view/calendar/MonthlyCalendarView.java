@@ -12,8 +12,11 @@
 package org.kazzz.view.calendar;
 
 import java.util.Calendar;
+import java.util.Locale;
 
 import org.kazzz.R;
+import org.kazzz.util.HolidayCalendar;
+import org.kazzz.util.SolarTermUtil;
 
 import android.content.Context;
 import android.content.res.Resources;
@@ -59,6 +62,10 @@ public class MonthlyCalendarView extends View {
     protected Calendar calendar = Calendar.getInstance();
     protected int today = calendar.get(Calendar.DAY_OF_MONTH);
     protected DateInfo[][] matrix = new DateInfo[6][7]; //[週][日]
+    protected HolidayCalendar holidays = HolidayCalendar.getDefault(); //祭日の判定に使用する
+    protected DateInfoPool pool = DateInfoPool.getDefault(); //セルの日付情報を共有する
+    protected boolean showRokuyo = false; //六曜を表示する (既定は表示しない)
+    protected boolean showSolarTerm = false; //二十四節気を表示する (既定は表示しない)
     
     //各色のデフォルト値 (デザイン時に使用する)
     protected int c_backgroud = Color.parseColor("#f0ffffff"); 
@@ -69,6 +76,8 @@ public class MonthlyCalendarView extends View {
     protected int c_holidaty = Color.parseColor("#ffFF0000");
     protected int c_saturday = Color.parseColor("#ff0000FF");
     protected int c_selected = Color.parseColor("#64FFA500");
+    protected int c_rokuyo = Color.parseColor("#ff808080");
+    protected int c_solarterm = Color.parseColor("#ff008000");
     
     //各種描画情報
     protected Paint background = new Paint();
@@ -77,6 +86,8 @@ public class MonthlyCalendarView extends View {
     protected Paint light = new Paint();
     protected Paint weekdayText = new Paint(Paint.SUBPIXEL_TEXT_FLAG|Paint.ANTI_ALIAS_FLAG);
     protected Paint holidayText = new Paint(Paint.SUBPIXEL_TEXT_FLAG|Paint.ANTI_ALIAS_FLAG);
+    protected Paint rokuyoText = new Paint(Paint.SUBPIXEL_TEXT_FLAG|Paint.ANTI_ALIAS_FLAG);
+    protected Paint solarTermText = new Paint(Paint.SUBPIXEL_TEXT_FLAG|Paint.ANTI_ALIAS_FLAG);
     protected Paint selected = new Paint();
     protected FontMetrics metricsForD;
     protected FontMetrics metricsForH;
@@ -134,6 +145,8 @@ public class MonthlyCalendarView extends View {
             this.c_holidaty = res.getColor(R.color.calendar_holiday);
             this.c_saturday = res.getColor(R.color.calendar_saturday);        
             this.c_selected = res.getColor(R.color.calendar_selected);  
+            this.c_rokuyo = res.getColor(R.color.calendar_rokuyo);
+            this.c_solarterm = res.getColor(R.color.calendar_solarterm);
         }
 
         /**
@@ -147,6 +160,8 @@ public class MonthlyCalendarView extends View {
         this.light.setColor(this.c_light);
         this.selected.setColor(this.c_selected);
         this.holidayText.setColor(this.c_holidaty);
+        this.rokuyoText.setColor(this.c_rokuyo);
+        this.solarTermText.setColor(this.c_solarterm);
         
         //カレンダマトリクスの計算
         this.calcCalendarMatrix();
@@ -203,6 +218,18 @@ public class MonthlyCalendarView extends View {
         this.holidayText.setTextScaleX(this.cellWidth / this.cellHeight); //セルのアスペクト比
         this.holidayText.setTextAlign(Paint.Align.LEFT);
         this.metricsForH = holidayText.getFontMetrics();
+        
+        // テキスト描画属性の設定 (六曜) セルの右下に祭日名と同じ大きさで描く
+        this.rokuyoText.setStyle(Style.FILL);
+        this.rokuyoText.setTextSize(this.cellHeight * 0.17f);
+        this.rokuyoText.setTextScaleX(this.cellWidth / this.cellHeight);
+        this.rokuyoText.setTextAlign(Paint.Align.RIGHT);
+
+        // テキスト描画属性の設定 (二十四節気) セルの左下に六曜と同じ大きさで、六曜と重ならない幅で描く
+        this.solarTermText.setStyle(Style.FILL);
+        this.solarTermText.setTextSize(this.cellHeight * 0.17f);
+        this.solarTermText.setTextScaleX(this.cellWidth / this.cellHeight);
+        this.solarTermText.setTextAlign(Paint.Align.LEFT);
 
         super.onSizeChanged(w, h, oldw, oldh);
     }
@@ -341,7 +368,7 @@ public class MonthlyCalendarView extends View {
             for (int col = 0; col < 7; col++) {
                 if (this.matrix[row-1][col] != null) {
                     //祭日で色を変える
-                    if (this.matrix[row-1][col].isHoliday) {
+                    if (this.matrix[row-1][col].isHoliday()) {
                         this.weekdayText.setColor(this.c_holidaty);
                     } else {
                         //曜日で色を変える              
@@ -359,12 +386,28 @@ public class MonthlyCalendarView extends View {
                             , this.weekdayText);
                     
                     //祭日名を描画
-                    if ( this.matrix[row-1][col].isHoliday ) {
-                        canvas.drawText( this.matrix[row-1][col].holidayName 
+                    if ( this.matrix[row-1][col].isHoliday() ) {
+                        canvas.drawText( this.matrix[row-1][col].getHolidayName(
+                                    Locale.getDefault())
                                 , ( col * this.cellWidth ) + holidayAlignX
                                 , offsetY + holidayAlignY + alignY // ( row * this.cellHeight ) + hy + y 
                                 , this.holidayText);
                     }
+                    //六曜を描画 (DateInfo生成時に求めてあるので、ここでは名前を引くだけ)
+                    if ( this.showRokuyo ) {
+                        canvas.drawText( this.matrix[row-1][col].getRokuyoName()
+                                , ( col + 1 ) * this.cellWidth - holidayAlignX / 2
+                                , offsetY + this.cellHeight - this.metricsForH.descent - 2
+                                , this.rokuyoText);
+                    }
+                    //二十四節気を描画 (六曜と同様にDateInfo生成時に求めてある)
+                    if ( this.showSolarTerm
+                            && this.matrix[row-1][col].getSolarTerm() != SolarTermUtil.NONE ) {
+                        this.drawSolarTerm(canvas, this.matrix[row-1][col]
+                                , col * this.cellWidth + holidayAlignX / 2
+                                , ( col + 1 ) * this.cellWidth - holidayAlignX / 2
+                                , offsetY + this.cellHeight - this.metricsForH.descent - 2);
+                    }
 
                 }
             }
@@ -436,14 +479,14 @@ public class MonthlyCalendarView extends View {
         
         //ここの時点でカレンダは3/30
         
-        // マトリクス生成
+        int year = this.calendar.get(Calendar.YEAR);
+        int month = this.calendar.get(Calendar.MONTH) + 1; //月は0オリジン
+        
+        // マトリクス生成 (日付情報はプールから取得するので、表示済みの月は生成しない)
         int row = 0;
         int column = startDay - 1; // 曜日は1オリジンなので-1する: 日曜日 = 1, 月曜日 = 2, ...
         for (int date = 1; date <= lastDate; date++) {
-            this.matrix[row][column] = new DateInfo(
-                    this.calendar.get(Calendar.YEAR)
-                    , this.calendar.get(Calendar.MONTH) + 1 //月は0オリジン
-                    , date);
+            this.matrix[row][column] = this.pool.get(year, month, date);
             if (column == 6) {
                 row++;
                 column = 0;
@@ -544,6 +587,100 @@ public class MonthlyCalendarView extends View {
         this.setToDay(today);
         this.calcCalendarMatrix();
     }
+    /**
+     * holidaysを取得します
+     * @return HolidayCalendar holidaysが戻ります
+     */
+    public HolidayCalendar getHolidayCalendar() {
+        return this.holidays;
+    }
+    /**
+     * 祭日の判定に使用するカレンダを設定します
+     * <pre>
+     *  会社の休業日等を合成したカレンダ(CompositeHolidayProvider)を設定できます。
+     * </pre>
+     * @param holidays holidaysをセットします
+     */
+    public void setHolidayCalendar(HolidayCalendar holidays) {
+        if ( holidays == null ) {
+            throw new IllegalArgumentException("holidays is null");
+        }
+        if ( this.holidays != holidays ) {
+            this.holidays = holidays;
+            this.pool = DateInfoPool.forCalendar(holidays);
+        }
+        this.calcCalendarMatrix();
+    }
+    /**
+     * 二十四節気をセルの左下に描画します
+     * <pre>
+     *  六曜と同じ行に描くので、六曜を表示する場合は六曜の左までの幅に収まるように
+     *  横方向に縮めます。収まる幅が無い場合は描画しません。
+     * </pre>
+     * @param canvas キャンバスをセット
+     * @param dateInfo 日付情報をセット
+     * @param left 描画範囲の左端をセット
+     * @param right 描画範囲の右端をセット
+     * @param baseline ベースラインをセット
+     */
+    protected void drawSolarTerm(Canvas canvas, DateInfo dateInfo
+            , float left, float right, float baseline) {
+        if ( this.showRokuyo ) {
+            right -= this.rokuyoText.measureText(dateInfo.getRokuyoName())
+                + this.solarTermText.getTextSize() / 2;
+        }
+        if ( right <= left ) {
+            return;
+        }
+        String name = dateInfo.getSolarTermName();
+        float width = this.solarTermText.measureText(name);
+        float scaleX = this.solarTermText.getTextScaleX();
+        if ( width > right - left ) {
+            this.solarTermText.setTextScaleX(scaleX * ( right - left ) / width);
+        }
+        canvas.drawText(name, left, baseline, this.solarTermText);
+        this.solarTermText.setTextScaleX(scaleX);
+    }
+    /**
+     * showRokuyoを取得します
+     * @return boolean 六曜を表示する場合trueが戻ります
+     */
+    public boolean isShowRokuyo() {
+        return this.showRokuyo;
+    }
+    /**
+     * 六曜を表示するか否かを設定します
+     * <pre>
+     *  既定では表示しません。
+     * </pre>
+     * @param showRokuyo 六曜を表示する場合trueをセット
+     */
+    public void setShowRokuyo(boolean showRokuyo) {
+        if ( this.showRokuyo != showRokuyo ) {
+            this.showRokuyo = showRokuyo;
+            this.invalidate();
+        }
+    }
+    /**
+     * showSolarTermを取得します
+     * @return boolean 二十四節気を表示する場合trueが戻ります
+     */
+    public boolean isShowSolarTerm() {
+        return this.showSolarTerm;
+    }
+    /**
+     * 二十四節気を表示するか否かを設定します
+     * <pre>
+     *  既定では表示しません。
+     * </pre>
+     * @param showSolarTerm 二十四節気を表示する場合trueをセット
+     */
+    public void setShowSolarTerm(boolean showSolarTerm) {
+        if ( this.showSolarTerm != showSolarTerm ) {
+            this.showSolarTerm = showSolarTerm;
+            this.invalidate();
+        }
+    }
     /**
      * cellWidthを取得します
      * @return float cellWidthが戻ります
@@ -597,12 +734,17 @@ public class MonthlyCalendarView extends View {
     
     /**
      * 選択された情報を取得します
-     * @return DateInfo 選択されたセルの情報が戻ります
+     * <pre>
+     *  セルの情報はDateInfoPoolの共有のインスタンス(変更できない)なので、
+     *  変更できるコピーを返します。
+     * </pre>
+     * @return DateInfo 選択されたセルの情報のコピーが戻ります
      */
     public DateInfo getSelectedDateInfo() {
         //Log.d(TAG, "getSelectedInfo: row=" + this.selRow + " col=" + this.selCol );
         if ( this.selRow == 0 ) return null;
-        return this.matrix[this.selRow-1][this.selCol]; //選択されるのはマトリクスではなく、画面なので行-1
+        DateInfo cell = this.matrix[this.selRow-1][this.selCol]; //選択されるのはマトリクスではなく、画面なので行-1
+        return cell != null ? new DateInfo(cell) : null;
     }
     /**
      * 任意の列、行を選択します 
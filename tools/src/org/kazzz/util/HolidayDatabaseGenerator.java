@@ -0,0 +1,54 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.util;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 祝日データベースファイル(HolidayDatabase)を生成します
+ * <pre>
+ *  現在の祝日テーブルをバイナリ形式で書き出します。(tools/build.xmlから実行する)
+ * </pre>
+ * @author Kazzz.
+ * @since JDK1.5
+ *
+ */
+public class HolidayDatabaseGenerator {
+    private HolidayDatabaseGenerator() {}
+
+    /**
+     * エントリポイント
+     * @param args 出力先のファイル名と、データバージョンをセット
+     * @throws IOException 出力に失敗した場合
+     */
+    public static void main(String[] args) throws IOException {
+        if ( args.length != 2 ) {
+            System.err.println("usage: HolidayDatabaseGenerator <file> <dataVersion>");
+            System.exit(1);
+        }
+        File file = new File(args[0]);
+        OutputStream out = new BufferedOutputStream(new FileOutputStream(file));
+        try {
+            HolidayDatabase.write(out, Integer.parseInt(args[1]));
+        } finally {
+            out.close();
+        }
+        //書き出したファイルを読み直して検査する
+        HolidayDatabase db = HolidayDatabase.open(file);
+        System.out.println(file + ": " + db.getFirstYear() + "-" + db.getLastYear()
+                + ", version " + db.getDataVersion() + ", " + file.length() + " bytes");
+    }
+}
@@ -0,0 +1,156 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.util;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+/**
+ * 祝日データクラス(HolidayData.java)を生成します
+ * <pre>
+ *  祝日判定ロジックをMIN_YEAR～MAX_YEARの全日について1度だけ実行し、
+ *  結果を文字列定数に詰めたソースを出力します。(tools/build.xmlから実行する)
+ *
+ *  書式: 年毎に[祝日数]に続けて、祝日毎に[通日 &lt;&lt; 6 | 祝日ID]を1文字で並べる
+ * </pre>
+ * @author Kazzz.
+ * @since JDK1.5
+ *
+ */
+public class HolidayTableGenerator {
+    private HolidayTableGenerator() {}
+
+    // 1文字の内、祝日IDに割り当てるビット数 (通日は9ビット)
+    private static final int ID_BITS = 6;
+
+    /**
+     * エントリポイント
+     * @param args 出力先のファイル名をセット
+     * @throws IOException 出力に失敗した場合
+     */
+    public static void main(String[] args) throws IOException {
+        if ( args.length != 1 ) {
+            System.err.println("usage: HolidayTableGenerator <HolidayData.java>");
+            System.exit(1);
+        }
+        StringBuilder packed = new StringBuilder();
+        int total = 0;
+        for ( int year = HolidayUtil.MIN_YEAR; year <= HolidayUtil.MAX_YEAR; year++ ) {
+            HolidayYear table = HolidayUtil.buildYearTable(year);
+            packed.append((char)table.getHolidayCount());
+            for ( int i = 0; i < table.getHolidayCount(); i++ ) {
+                int dayOfYear = table.getHolidayDay(i);
+                int id = table.getId(dayOfYear);
+                if ( id >= ( 1 << ID_BITS ) ) {
+                    throw new IllegalStateException("holiday id overflow: " + id);
+                }
+                packed.append((char)( ( dayOfYear << ID_BITS ) | id ));
+            }
+            total += table.getHolidayCount();
+        }
+
+        File file = new File(args[0]);
+        PrintWriter out = new PrintWriter(
+                new OutputStreamWriter(new FileOutputStream(file), "UTF-8"));
+        try {
+            HolidayTableGenerator.write(out, packed, total);
+        } finally {
+            out.close();
+        }
+        System.out.println(file + ": " + total + " holidays, "
+                + packed.length() + " chars");
+    }
+    /**
+     * ソースを出力します
+     * @param out 出力先をセット
+     * @param packed 詰めた祝日データをセット
+     * @param total 祝日の総数をセット
+     */
+    private static void write(PrintWriter out, CharSequence packed, int total) {
+        out.print("/*\n"
+            + "* Licensed under the Apache License, Version 2.0 (the \"License\");\n"
+            + "* you may not use this file except in compliance with the License.\n"
+            + "* You may obtain a copy of the License at\n"
+            + "* http://www.apache.org/licenses/LICENSE-2.0\n"
+            + "* Unless required by applicable law or agreed to in writing, software\n"
+            + "* distributed under the License is distributed on an \"AS IS\" BASIS,\n"
+            + "* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.\n"
+            + "* See the License for the specific language governing permissions and\n"
+            + "* limitations under the License.\n"
+            + "*/\n"
+            + "package org.kazzz.util;\n"
+            + "\n"
+            + "/**\n"
+            + " * 生成済みの祝日データを提供します\n"
+            + " * <pre>\n"
+            + " *  このファイルはHolidayTableGeneratorが生成したものです。直接編集しないでください。\n"
+            + " *  (祝日判定ロジックを変更した場合は tools/build.xml の generate を実行する)\n"
+            + " * </pre>\n"
+            + " * @author Kazzz.\n"
+            + " * @since JDK1.5 Android Level 4\n"
+            + " *\n"
+            + " */\n"
+            + "final class HolidayData {\n"
+            + "    private HolidayData() {}\n"
+            + "\n"
+            + "    /** 収録している最初の年 */\n"
+            + "    static final int FIRST_YEAR = " + HolidayUtil.MIN_YEAR + ";\n"
+            + "    /** 収録している最後の年 */\n"
+            + "    static final int LAST_YEAR = " + HolidayUtil.MAX_YEAR + ";\n"
+            + "    /** 収録している祝日の総数 */\n"
+            + "    static final int TOTAL = " + total + ";\n"
+            + "    /** 1文字の内、祝日IDに割り当てるビット数 */\n"
+            + "    static final int ID_BITS = " + ID_BITS + ";\n"
+            + "\n"
+            + "    /** 年毎に[祝日数]、祝日毎に[通日 << ID_BITS | 祝日ID] */\n"
+            + "    static final String PACKED =\n");
+        final int perLine = 12;
+        for ( int i = 0; i < packed.length(); i += perLine ) {
+            out.print(i == 0 ? "        \"" : "        + \"");
+            int end = Math.min(i + perLine, packed.length());
+            for ( int j = i; j < end; j++ ) {
+                HolidayTableGenerator.escape(out, packed.charAt(j));
+            }
+            out.print(end == packed.length() ? "\";\n" : "\"\n");
+        }
+        out.print("}\n");
+    }
+    /**
+     * 1文字をJavaの文字列リテラルとして出力します
+     * <pre>
+     *  改行等の制御文字をユニコードエスケープで書くと、コンパイラが
+     *  字句解析の前に変換してしまうので、0xff以下の文字は3桁の8進エスケープで出力します。
+     * </pre>
+     * @param out 出力先をセット
+     * @param c 文字をセット
+     */
+    private static void escape(PrintWriter out, char c) {
+        if ( c <= 0xff ) {
+            String oct = Integer.toOctalString(c);
+            out.print('\\');
+            for ( int k = oct.length(); k < 3; k++ ) {
+                out.print('0');
+            }
+            out.print(oct);
+        } else {
+            String hex = Integer.toHexString(c);
+            out.print("\\u");
+            for ( int k = hex.length(); k < 4; k++ ) {
+                out.print('0');
+            }
+            out.print(hex);
+        }
+    }
+}
@@ -0,0 +1,320 @@
+/*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* http://www.apache.org/licenses/LICENSE-2.0
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.kazzz.util;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.Arrays;
+
+/**
+ * 旧暦(太陰太陽暦)の月の表(LunarData.java)を生成します
+ * <pre>
+ *  朔(新月)の時刻と中気(太陽の視黄経が30度の倍数になる時刻)を天文計算で求め、
+ *  日本標準時の日付で旧暦の月を定めます。(tools/build.xmlから実行する)
+ *   ・朔の日を月の初日とする
+ *   ・冬至を含む月を11月とする
+ *   ・冬至を含む月から次の冬至を含む月までが13か月の場合、
+ *     最初の中気を含まない月を閏月とする(いわゆる2033年問題は閏11月となる)
+ *
+ *  書式: 月毎に2ビット[閏月 &lt;&lt; 1 | 大の月]を、1文字に8か月分並べる
+ * </pre>
+ * @author Kazzz.
+ * @since JDK1.5
+ *
+ */
+public class LunarTableGenerator {
+    private LunarTableGenerator() {}
+
+    /** 朔望月の平均日数 */
+    private static final double SYNODIC_MONTH = 29.530588861;
+    private static final double RAD = Math.PI / 180.0;
+    // 1文字に詰める月数
+    private static final int MONTHS_PER_CHAR = 8;
+
+    // 朔の補正項 (係数, M'の倍数, Mの倍数, Fの倍数, Eの次数)
+    private static final double[][] NEW_MOON_TERMS = {
+        { -0.40720, 1, 0, 0, 0 },
+        { 0.17241, 0, 1, 0, 1 },
+        { 0.01608, 2, 0, 0, 0 },
+        { 0.01039, 0, 0, 2, 0 },
+        { 0.00739, 1, -1, 0, 1 },
+        { -0.00514, 1, 1, 0, 1 },
+        { 0.00208, 0, 2, 0, 2 },
+        { -0.00111, 1, 0, -2, 0 },
+        { -0.00057, 1, 0, 2, 0 },
+        { 0.00056, 2, 1, 0, 1 },
+        { -0.00042, 3, 0, 0, 0 },
+        { 0.00042, 0, 1, 2, 1 },
+        { 0.00038, 0, 1, -2, 1 },
+        { -0.00024, 2, -1, 0, 1 },
+        { -0.00007, 1, 2, 0, 0 },
+        { 0.00004, 2, 0, -2, 0 },
+        { 0.00004, 0, 3, 0, 0 },
+        { 0.00003, 1, 1, -2, 0 },
+        { 0.00003, 2, 0, 2, 0 },
+        { -0.00003, 1, 1, 2, 0 },
+        { 0.00003, 1, -1, 2, 0 },
+        { -0.00002, 1, -1, -2, 0 },
+        { -0.00002, 3, 1, 0, 0 },
+        { 0.00002, 4, 0, 0, 0 },
+    };
+    // 惑星による補正項 (係数, 初期値, kの係数)
+    private static final double[][] PLANETARY_TERMS = {
+        { 0.000325, 299.77, 0.107408 },
+        { 0.000165, 251.88, 0.016321 },
+        { 0.000164, 251.83, 26.651886 },
+        { 0.000126, 349.42, 36.412478 },
+        { 0.000110, 84.66, 18.206239 },
+        { 0.000062, 141.74, 53.303771 },
+        { 0.000060, 207.14, 2.453732 },
+        { 0.000056, 154.84, 7.306860 },
+        { 0.000047, 34.52, 27.261239 },
+        { 0.000042, 207.19, 0.121824 },
+        { 0.000040, 291.34, 1.844379 },
+        { 0.000037, 161.72, 24.198154 },
+        { 0.000035, 239.56, 25.513099 },
+        { 0.000023, 331.55, 3.592518 },
+    };
+
+    /**
+     * エントリポイント
+     * @param args 出力先のファイル名をセット
+     * @throws IOException 出力に失敗した場合
+     */
+    public static void main(String[] args) throws IOException {
+        if ( args.length != 1 ) {
+            System.err.println("usage: LunarTableGenerator <LunarData.java>");
+            System.exit(1);
+        }
+        int firstDay = DateUtil.toEpochDay(HolidayUtil.MIN_YEAR, 1, 1);
+        int lastDay = DateUtil.toEpochDay(HolidayUtil.MAX_YEAR, 12, 31);
+
+        //前後1年の余裕を持って朔の日を求める
+        int fromK = (int)Math.floor(( HolidayUtil.MIN_YEAR - 2 - 2000 ) * 12.3685);
+        int toK = (int)Math.ceil(( HolidayUtil.MAX_YEAR + 2 - 2000 ) * 12.3685);
+        int[] starts = new int[toK - fromK + 1];
+        for ( int k = fromK; k <= toK; k++ ) {
+            starts[k - fromK] = SolarLongitude.toEpochDay(LunarTableGenerator.newMoon(k));
+        }
+        //中気の日 (視黄経 = 30度の倍数)
+        int[] chuki = new int[( HolidayUtil.MAX_YEAR - HolidayUtil.MIN_YEAR + 5 ) * 12];
+        int[] longitudes = new int[chuki.length];
+        int n = 0;
+        for ( int year = HolidayUtil.MIN_YEAR - 2; year <= HolidayUtil.MAX_YEAR + 2; year++ ) {
+            for ( int longitude = 0; longitude < 360; longitude += 30 ) {
+                chuki[n] = SolarLongitude.getEpochDay(year, longitude);
+                longitudes[n] = longitude;
+                n++;
+            }
+        }
+        int months = starts.length - 1;
+        boolean[] hasChuki = new boolean[months];
+        boolean[] hasWinterSolstice = new boolean[months];
+        for ( int i = 0; i < n; i++ ) {
+            int index = Arrays.binarySearch(starts, chuki[i]);
+            if ( index < 0 ) index = -index - 2;  //直前の朔の月
+            if ( index < 0 || index >= months ) continue;
+            hasChuki[index] = true;
+            if ( longitudes[i] == 270 ) hasWinterSolstice[index] = true;
+        }
+
+        //冬至を含む月を11月として、次の冬至を含む月までに番号を振る
+        int[] numbers = new int[months];
+        boolean[] leaps = new boolean[months];
+        int previous = -1;
+        for ( int i = 0; i < months; i++ ) {
+            if ( !hasWinterSolstice[i] ) continue;
+            if ( previous >= 0 ) {
+                boolean leapYear = i - previous == 13;
+                int number = 11;
+                for ( int j = previous + 1; j < i; j++ ) {
+                    if ( leapYear && !hasChuki[j] ) {
+                        leaps[j] = true;
+                        leapYear = false;
+                    } else {
+                        number = number % 12 + 1;
+                    }
+                    numbers[j] = number;
+                }
+                if ( number != 10 ) {
+                    throw new IllegalStateException("month numbering failed at "
+                            + DateUtil.toYmd(starts[i]));
+                }
+            }
+            numbers[i] = 11;
+            previous = i;
+        }
+
+        //対象期間を含む月だけを出力する
+        int first = 0;
+        while ( starts[first + 1] <= firstDay ) first++;
+        int last = first;
+        while ( starts[last + 1] <= lastDay ) last++;
+        for ( int i = first; i <= last; i++ ) {
+            if ( numbers[i] == 0 ) {
+                throw new IllegalStateException("month number missing at "
+                        + DateUtil.toYmd(starts[i]));
+            }
+        }
+        StringBuilder packed = new StringBuilder();
+        int bits = 0;
+        for ( int i = first; i <= last; i++ ) {
+            int length = starts[i + 1] - starts[i];
+            if ( length != 29 && length != 30 ) {
+                throw new IllegalStateException("invalid month length at "
+                        + DateUtil.toYmd(starts[i]) + ": " + length);
+            }
+            int flags = ( leaps[i] ? 2 : 0 ) | ( length == 30 ? 1 : 0 );
+            int shift = ( ( i - first ) % MONTHS_PER_CHAR ) * 2;
+            bits |= flags << shift;
+            if ( shift == ( MONTHS_PER_CHAR - 1 ) * 2 || i == last ) {
+                packed.append((char)bits);
+                bits = 0;
+            }
+        }
+
+        File file = new File(args[0]);
+        PrintWriter out = new PrintWriter(
+                new OutputStreamWriter(new FileOutputStream(file), "UTF-8"));
+        try {
+            LunarTableGenerator.write(out, starts[first], numbers[first]
+                    , last - first + 1, packed);
+        } finally {
+            out.close();
+        }
+        System.out.println(file + ": " + ( last - first + 1 ) + " months, "
+                + packed.length() + " chars");
+    }
+    /**
+     * 朔の時刻を求めます
+     * <pre>
+     *  J. Meeus "Astronomical Algorithms" 第49章の式を使用します。(誤差は1分程度)
+     * </pre>
+     * @param k 2000年1月の朔を0とした朔の番号をセット
+     * @return double 朔の時刻のユリウス日(力学時)が戻ります
+     */
+    static double newMoon(int k) {
+        double t = k / 1236.85;
+        double jd = 2451550.09766 + SYNODIC_MONTH * k
+            + t * t * ( 0.00015437 + t * ( -0.000000150 + t * 0.00000000073 ) );
+        double e = 1 - t * ( 0.002516 + t * 0.0000074 );
+        double m = RAD * ( 2.5534 + 29.10535670 * k - t * t * ( 0.0000014 + t * 0.00000011 ) );
+        double mp = RAD * ( 201.5643 + 385.81693528 * k
+                + t * t * ( 0.0107582 + t * ( 0.00001238 - t * 0.000000058 ) ) );
+        double f = RAD * ( 160.7108 + 390.67050284 * k
+                - t * t * ( 0.0016118 + t * ( 0.00000227 - t * 0.000000011 ) ) );
+        double omega = RAD * ( 124.7746 - 1.56375588 * k + t * t * ( 0.0020672 + t * 0.00000215 ) );
+        for ( double[] term : NEW_MOON_TERMS ) {
+            double value = term[0] * Math.sin(term[1] * mp + term[2] * m + term[3] * f);
+            for ( int i = 0; i < term[4]; i++ ) {
+                value *= e;
+            }
+            jd += value;
+        }
+        jd -= 0.00017 * Math.sin(omega);
+        for ( double[] term : PLANETARY_TERMS ) {
+            double a = term[1] + term[2] * k;
+            if ( term == PLANETARY_TERMS[0] ) {
+                a -= 0.009173 * t * t;
+            }
+            jd += term[0] * Math.sin(RAD * a);
+        }
+        return jd;
+    }
+    /**
+     * ソースを出力します
+     * @param out 出力先をセット
+     * @param firstEpochDay 最初の月の初日(通算日)をセット
+     * @param firstMonth 最初の月の番号をセット
+     * @param count 月数をセット
+     * @param packed 詰めた月のデータをセット
+     */
+    private static void write(PrintWriter out, int firstEpochDay, int firstMonth
+            , int count, CharSequence packed) {
+        out.print("/*\n"
+            + "* Licensed under the Apache License, Version 2.0 (the \"License\");\n"
+            + "* you may not use this file except in compliance with the License.\n"
+            + "* You may obtain a copy of the License at\n"
+            + "* http://www.apache.org/licenses/LICENSE-2.0\n"
+            + "* Unless required by applicable law or agreed to in writing, software\n"
+            + "* distributed under the License is distributed on an \"AS IS\" BASIS,\n"
+            + "* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.\n"
+            + "* See the License for the specific language governing permissions and\n"
+            + "* limitations under the License.\n"
+            + "*/\n"
+            + "package org.kazzz.util;\n"
+            + "\n"
+            + "/**\n"
+            + " * 生成済みの旧暦の月のデータを提供します\n"
+            + " * <pre>\n"
+            + " *  このファイルはLunarTableGeneratorが生成したものです。直接編集しないでください。\n"
+            + " *  (tools/build.xml の generate-lunar で再生成する)\n"
+            + " * </pre>\n"
+            + " * @author Kazzz.\n"
+            + " * @since JDK1.5 Android Level 4\n"
+            + " *\n"
+            + " */\n"
+            + "final class LunarData {\n"
+            + "    private LunarData() {}\n"
+            + "\n"
+            + "    /** 最初の月の初日(通算日) */\n"
+            + "    static final int FIRST_EPOCH_DAY = " + firstEpochDay + ";\n"
+            + "    /** 最初の月の番号 */\n"
+            + "    static final int FIRST_MONTH = " + firstMonth + ";\n"
+            + "    /** 収録している月数 */\n"
+            + "    static final int COUNT = " + count + ";\n"
+            + "    /** 1文字に詰めた月数 */\n"
+            + "    static final int MONTHS_PER_CHAR = " + MONTHS_PER_CHAR + ";\n"
+            + "\n"
+            + "    /** 月毎に2ビット[閏月 << 1 | 大の月] (下位ビットから順に) */\n"
+            + "    static final String PACKED =\n");
+        final int perLine = 12;
+        for ( int i = 0; i < packed.length(); i += perLine ) {
+            out.print(i == 0 ? "        \"" : "        + \"");
+            int end = Math.min(i + perLine, packed.length());
+            for ( int j = i; j < end; j++ ) {
+                LunarTableGenerator.escape(out, packed.charAt(j));
+            }
+            out.print(end == packed.length() ? "\";\n" : "\"\n");
+        }
+        out.print("}\n");
+    }
+    /**
+     * 1文字をJavaの文字列リテラルとして出力します
+     * <pre>
+     *  制御文字をユニコードエスケープで書くと、コンパイラが字句解析の前に
+     *  変換してしまうので、0xff以下の文字は3桁の8進エスケープで出力します。
+     * </pre>
+     * @param out 出力先をセット
+     * @param c 文字をセット
+     */
+    private static void escape(PrintWriter out, char c) {
+        if ( c <= 0xff ) {
+            String oct = Integer.toOctalString(c);
+            out.print('\\');
+            for ( int k = oct.length(); k < 3; k++ ) {
+                out.print('0');
+            }
+            out.print(oct);
+        } else {
+            String hex = Integer.toHexString(c);
+            out.print("\\u");
+            for ( int k = hex.length(); k < 4; k++ ) {
+                out.print('0');
+            }
+            out.print(hex);
+        }
+    }
+}